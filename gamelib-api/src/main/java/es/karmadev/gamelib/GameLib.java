@@ -1,20 +1,26 @@
 package es.karmadev.gamelib;
 
 import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.entity.hitbox.HitboxEngine;
 import es.karmadev.gamelib.exception.PlaygroundPositionException;
 import es.karmadev.gamelib.pos.Position3D;
 import es.karmadev.gamelib.region.GameShape;
 import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.edit.JournalRecorder;
+import es.karmadev.gamelib.region.index.PlaygroundRegistry;
+import es.karmadev.gamelib.region.track.RegionTracker;
+import es.karmadev.gamelib.sight.LineOfSight;
+import es.karmadev.gamelib.sight.SightCache;
+import es.karmadev.gamelib.sight.SightSnapshot;
 import es.karmadev.gamelib.storage.StorageDriver;
 import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents the game lib
@@ -71,6 +77,59 @@ public abstract class GameLib {
      */
     public abstract StorageDriver getStorageDriver();
 
+    /**
+     * Get the library playground registry. The
+     * playgrounds are held registered while they are
+     * {@link #getRegionTracker() tracked} or
+     * {@link #getJournalRecorder() recorded}, and
+     * released once they stop being so
+     *
+     * @return the playground registry
+     */
+    public abstract PlaygroundRegistry getPlaygroundRegistry();
+
+    /**
+     * Get the library region tracker
+     *
+     * @return the region tracker
+     */
+    public abstract RegionTracker getRegionTracker();
+
+    /**
+     * Get the library journal recorder
+     *
+     * @return the journal recorder
+     */
+    public abstract JournalRecorder getJournalRecorder();
+
+    /**
+     * Get the library line of sight cache,
+     * which caches the results of the {@link LineOfSight#DEFAULT default}
+     * line of sight
+     *
+     * @return the sight cache
+     */
+    public abstract SightCache getSightCache();
+
+    /**
+     * Get the library chunk snapshots, which
+     * are captured around the players every tick
+     * to trace lines of sight outside the main
+     * thread
+     *
+     * @return the sight snapshots
+     */
+    public abstract SightSnapshot getSightSnapshot();
+
+    /**
+     * Get the library hitbox engine,
+     * which resolves shots against the
+     * entity hitboxes
+     *
+     * @return the hitbox engine
+     */
+    public abstract HitboxEngine getHitboxEngine();
+
     /**
      * Get all the plugin-aware entities
      *
@@ -115,6 +174,40 @@ public abstract class GameLib {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get all the entities with the name,
+     * ignoring case
+     *
+     * @param name the name to search by
+     * @return the entities with the name
+     */
+    @NotNull
+    public Collection<? extends EngineEntity> getEntitiesIgnoreCase(final String name) {
+        if (name == null) return Collections.emptyList();
+        return getEntities().stream().filter((entity) -> name.equalsIgnoreCase(entity.getName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the entities whose name starts with
+     * the prefix, ignoring case, sorted by name.
+     * Meant for tab completion
+     *
+     * @param prefix the name prefix
+     * @param limit the max amount of entities
+     * @return the entities whose name starts
+     * with the prefix
+     */
+    @NotNull
+    public List<? extends EngineEntity> getEntitiesByPrefix(final String prefix, final int limit) {
+        if (prefix == null || limit <= 0) return Collections.emptyList();
+        return getEntities().stream()
+                .filter((entity) -> entity.getName() != null && entity.getName().regionMatches(true, 0, prefix, 0, prefix.length()))
+                .sorted(Comparator.comparing((entity) -> entity.getName().toLowerCase(Locale.ROOT)))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get an entity by its unique ID
      *
@@ -128,6 +221,58 @@ public abstract class GameLib {
                 .findAny().orElse(null);
     }
 
+    /**
+     * Get the plugin-aware entities within the
+     * radius of the position, ordered from the nearest
+     * to the farthest. The stream is lazy, so limiting
+     * it stops the search once enough entities
+     * have been found
+     *
+     * @param position the position to search from
+     * @param radius the search radius
+     * @param filter the entity filter
+     * @return the entities within the radius
+     */
+    @NotNull
+    public Stream<? extends EngineEntity> within(final Position3D position, final double radius,
+                                                 final Predicate<? super EngineEntity> filter) {
+        double x = position.getX();
+        double y = position.getY();
+        double z = position.getZ();
+        double radiusSquared = radius * radius;
+
+        return getEntities(position.getWorld()).stream().filter(filter)
+                .map((entity) -> {
+                    Position3D other = entity.getPosition();
+                    double dX = other.getX() - x;
+                    double dY = other.getY() - y;
+                    double dZ = other.getZ() - z;
+
+                    return new AbstractMap.SimpleImmutableEntry<>(entity, dX * dX + dY * dY + dZ * dZ);
+                })
+                .filter((entry) -> entry.getValue() <= radiusSquared)
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey);
+    }
+
+    /**
+     * Get the nearest plugin-aware entities
+     * to the position, ordered from the nearest
+     * to the farthest
+     *
+     * @param position the position to search from
+     * @param amount the max amount of entities
+     * @param maxRadius the max search radius
+     * @param filter the entity filter
+     * @return the nearest entities
+     */
+    @NotNull
+    public List<? extends EngineEntity> nearest(final Position3D position, final int amount, final double maxRadius,
+                                                final Predicate<? super EngineEntity> filter) {
+        if (amount <= 0) return Collections.emptyList();
+        return within(position, maxRadius, filter).limit(amount).collect(Collectors.toList());
+    }
+
     /**
      * Create a new ground based on the
      * shape and the positions
@@ -7,8 +7,8 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Represents the game lib general
@@ -70,6 +70,39 @@ public interface PlayerManager {
                 .findAny().orElse(null);
     }
 
+    /**
+     * Get a player by its name,
+     * ignoring case
+     *
+     * @param name the player name
+     * @return the player
+     */
+    @Nullable
+    default HumanPlayer getPlayerIgnoreCase(final @NotNull String name) {
+        return getOnlinePlayers().stream().filter((player) -> player.getName().equalsIgnoreCase(name))
+                .findAny().orElse(null);
+    }
+
+    /**
+     * Get the online players whose name
+     * starts with the prefix, ignoring case,
+     * sorted by name. Meant for tab completion
+     *
+     * @param prefix the name prefix
+     * @param limit the max amount of players
+     * @return the players whose name starts
+     * with the prefix
+     */
+    @NotNull
+    default List<? extends HumanPlayer> getPlayersByPrefix(final @NotNull String prefix, final int limit) {
+        if (limit <= 0) return Collections.emptyList();
+        return getOnlinePlayers().stream()
+                .filter((player) -> player.getName().regionMatches(true, 0, prefix, 0, prefix.length()))
+                .sorted(Comparator.comparing((player) -> player.getName().toLowerCase(Locale.ROOT)))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Create a player from the player
      * object
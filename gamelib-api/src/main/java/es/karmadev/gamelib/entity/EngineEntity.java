@@ -1,16 +1,21 @@
 package es.karmadev.gamelib.entity;
 
+import es.karmadev.gamelib.GameLib;
 import es.karmadev.gamelib.LibSerializable;
 import es.karmadev.gamelib.entity.human.HumanPlayer;
 import es.karmadev.gamelib.math.MathUtils;
-import es.karmadev.gamelib.pos.AreaPosition;
+import es.karmadev.gamelib.pos.BlockPos;
 import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.sight.LineOfSight;
+import es.karmadev.gamelib.sight.SightResult;
+import es.karmadev.gamelib.sight.SightSnapshot;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a GameLib entity. This
@@ -57,6 +62,25 @@ public interface EngineEntity extends LibSerializable<EngineEntity> {
      */
     Position3D getPosition();
 
+    /**
+     * Get the entity position as
+     * a vector
+     *
+     * @return the entity position vector
+     */
+    default Vec3 getPositionVector() {
+        return getPosition().toVec3();
+    }
+
+    /**
+     * Get the entity block position
+     *
+     * @return the entity block position
+     */
+    default BlockPos getBlockPosition() {
+        return getPosition().toBlockPos();
+    }
+
     /**
      * Get the entity world
      *
@@ -73,6 +97,17 @@ public interface EngineEntity extends LibSerializable<EngineEntity> {
      */
     boolean moveTo(final Location other);
 
+    /**
+     * Move the entity to the specified
+     * vector, on its current world
+     *
+     * @param other the vector to move to
+     * @return if the movement was allowed
+     */
+    default boolean moveTo(final Vec3 other) {
+        return moveTo(other.toPosition(getWorld()));
+    }
+
     /**
      * Move the entity to another
      * entity position
@@ -234,56 +269,85 @@ public interface EngineEntity extends LibSerializable<EngineEntity> {
     default boolean canSee(final EngineEntity otherEntity,
                           final double rayAreaXOffset, final double rayAreaYOffset, final double rayAreaZOffset,
                           final double rayAreaXOffset2, final double rayAreaYOffset2, final double rayAreaZOffset2) {
-        Position3D current = getPosition();
-        Position3D other = otherEntity.getPosition();
-
-        double x1 = current.getX();
-        double y1 = current.getY();
-        double z1 = current.getZ();
-        double x2 = other.getX();
-        double y2 = other.getY();
-        double z2 = other.getZ();
-
-        double distance = current.distance(other);
-        if (distance <= 1) return true;
-
-        double dirX = (x2 - x1) / distance;
-        double dirY = (y2 - y1) / distance;
-        double dirZ = (z2 - z1) / distance;
-
-        iterator:
-        for (double i = 0; i < distance; i += 0.1) {
-            double x = (x1 + dirX) * i;
-            double y = (y1 + dirY) * i;
-            double z = (z1 + dirZ) * i;
-
-            Position3D pos = new Position3D(null, x, y, z);
-            AreaPosition area = pos.toArea(rayAreaXOffset, rayAreaYOffset, rayAreaZOffset,
-                    rayAreaXOffset2, rayAreaYOffset2, rayAreaZOffset2);
-
-            boolean isBlocked = true;
-            for (Position3D container : area.getContents()) {
-                Block block = container.getBlock();
-                Material type = block.getType();
-
-                if (type.isBlock() && type.isSolid()) {
-                    if (!type.isInteractable() && type.isOccluding())
-                        continue iterator;
-                }
+        LineOfSight sight = LineOfSight.fromArea(rayAreaXOffset, rayAreaYOffset, rayAreaZOffset,
+                rayAreaXOffset2, rayAreaYOffset2, rayAreaZOffset2);
 
-                if (type.isAir() || !type.isOccluding() ||
-                    type.isInteractable() || type.equals(Material.WATER) ||
-                    type.equals(Material.LAVA)) {
-                    isBlocked = false;
-                    break;
-                }
-            }
-
-            if (isBlocked) {
-                return false;
-            }
+        GameLib lib = GameLib.getInstance();
+        if (lib != null && lib.getSightCache() != null && lib.getSightCache().getSight() == sight) {
+            return lib.getSightCache().canSee(getPosition(), otherEntity.getPosition());
         }
 
-        return true;
+        return sight.canSee(getPosition(), otherEntity.getPosition());
+    }
+
+    /**
+     * Get if the entity is able to see
+     * the other entity, tracing the line of sight
+     * outside the main thread, over the chunk snapshots
+     * captured around the players. The positions are
+     * read when this method is called. The default
+     * raytrace area is of 1x1x1 (one block).
+     *
+     * @param other the other entity
+     * @return if the entity can see the other
+     * entity, once traced
+     * @see #canSee(EngineEntity)
+     */
+    default CompletableFuture<Boolean> canSeeAsync(final EngineEntity other) {
+        return canSeeAsync(other, 1, 1, 1, -1, -1, -1);
+    }
+
+    /**
+     * Get if the entity is able to see
+     * the other entity, tracing the line of sight
+     * outside the main thread, over the chunk snapshots
+     * captured around the players. The positions are
+     * read when this method is called. If the ray crosses
+     * a chunk which is not captured, the line of sight is
+     * traced again on the main thread
+     *
+     * @param otherEntity the other entity
+     * @param rayAreaXOffset the raytrace X area offset
+     * @param rayAreaYOffset the raytrace Y area offset
+     * @param rayAreaZOffset the raytrace Z area offset
+     * @param rayAreaXOffset2 the raytrace X area offset 2
+     * @param rayAreaYOffset2 the raytrace Y area offset 2
+     * @param rayAreaZOffset2 the raytrace Z area offset 2
+     * @return if the entity can see the other
+     * entity, once traced
+     * @see #canSee(EngineEntity, double, double, double, double, double, double)
+     */
+    default CompletableFuture<Boolean> canSeeAsync(final EngineEntity otherEntity,
+                                                   final double rayAreaXOffset, final double rayAreaYOffset, final double rayAreaZOffset,
+                                                   final double rayAreaXOffset2, final double rayAreaYOffset2, final double rayAreaZOffset2) {
+        LineOfSight sight = LineOfSight.fromArea(rayAreaXOffset, rayAreaYOffset, rayAreaZOffset,
+                rayAreaXOffset2, rayAreaYOffset2, rayAreaZOffset2);
+
+        Position3D from = getPosition();
+        Position3D to = otherEntity.getPosition();
+        World world = from.getWorld();
+        if (world == null || !world.equals(to.getWorld())) return CompletableFuture.completedFuture(false);
+
+        GameLib lib = GameLib.getInstance();
+        SightSnapshot snapshot = lib == null ? null : lib.getSightSnapshot();
+        if (snapshot == null) return CompletableFuture.completedFuture(sight.canSee(from, to));
+
+        double fromX = from.getX(), fromY = from.getY(), fromZ = from.getZ();
+        double toX = to.getX(), toY = to.getY(), toZ = to.getZ();
+        return CompletableFuture.supplyAsync(() -> sight.trace(snapshot, world, fromX, fromY, fromZ, toX, toY, toZ),
+                ForkJoinPool.commonPool()).thenCompose((result) -> {
+            if (result != SightResult.UNKNOWN) return CompletableFuture.completedFuture(result == SightResult.VISIBLE);
+
+            CompletableFuture<Boolean> fallback = new CompletableFuture<>();
+            lib.runSync(() -> {
+                try {
+                    fallback.complete(sight.canSee(world, fromX, fromY, fromZ, toX, toY, toZ));
+                } catch (Throwable ex) {
+                    fallback.completeExceptionally(ex);
+                }
+            });
+
+            return fallback;
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,12 @@
 package es.karmadev.gamelib.entity;
 
+import es.karmadev.gamelib.GameLib;
 import es.karmadev.gamelib.math.MathUtils;
-import es.karmadev.gamelib.pos.AreaPosition;
 import es.karmadev.gamelib.pos.Position3D;
-import org.bukkit.Material;
-import org.bukkit.block.Block;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.sight.LineOfSight;
+import es.karmadev.gamelib.sight.ViewCone;
+import org.bukkit.World;
 
 /**
  * Represents a GameLib entity. This
@@ -13,6 +15,17 @@ import org.bukkit.block.Block;
  */
 public interface EngineLivingEntity extends EngineEntity, HeadedEntity {
 
+    /**
+     * Get the unit direction the
+     * entity is looking at
+     *
+     * @return the entity look direction
+     */
+    default Vec3 getLook() {
+        Position3D position = getPosition();
+        return ViewCone.look(position.getYaw(), position.getPitch());
+    }
+
     /**
      * Get if the entity is able to see
      * the other entity directly.
@@ -96,7 +109,8 @@ public interface EngineLivingEntity extends EngineEntity, HeadedEntity {
      * the interpolation direction between to create a
      * virtual raytrace to the entity. If the raytrace
      * collides with a solid non-translucent block, the
-     * operation will fail.
+     * operation will fail. Entities behind the viewer
+     * are rejected before the ray is traced.
      *
      * @param otherEntity the other entity
      * @param rayAreaXOffset the raytrace X area offset
@@ -113,6 +127,7 @@ public interface EngineLivingEntity extends EngineEntity, HeadedEntity {
                           final double rayAreaXOffset2, final double rayAreaYOffset2, final double rayAreaZOffset2) {
         Position3D current = getPosition();
         Position3D other = otherEntity.getPosition();
+        World world = current.getWorld();
 
         double x1 = current.getX();
         double y1 = current.getY();
@@ -121,12 +136,7 @@ public interface EngineLivingEntity extends EngineEntity, HeadedEntity {
         double y2 = other.getY();
         double z2 = other.getZ();
 
-        double distance = current.distance(other);
-        if (distance <= 1) return true;
-
-        double dirX = (x2 - x1) / distance;
-        double dirY = (y2 - y1) / distance;
-        double dirZ = (z2 - z1) / distance;
+        if (world == null || !world.equals(other.getWorld())) return false;
 
         double yaw = Math.toRadians(current.getYaw());
         double pitch = Math.toRadians(current.getPitch());
@@ -136,45 +146,84 @@ public interface EngineLivingEntity extends EngineEntity, HeadedEntity {
         double cosPitch = Math.cos(-pitch);
         double sinPitch = Math.sin(-pitch);
 
-        iterator:
-        for (double i = 0; i < distance; i += 0.1) {
-            double x = (x1 + dirX * i);
-            double y = (y1 + dirY * i);
-            double z = (z1 + dirZ * i);
-
-            double rotatedX = cosYaw * (x - x1) - sinYaw * (z - z1) + x1;
-            double rotatedZ = sinYaw * (x - x1) + cosYaw * (z - z1) + z1;
-
-            double rotatedY = cosPitch * (y - y1) - sinPitch * (rotatedZ - z1) + y1;
-            rotatedZ = sinPitch * (y - y1) + cosPitch * (rotatedZ - z1) + z1;
-
-            Position3D pos = new Position3D(null, rotatedX, rotatedY, rotatedZ);
-            AreaPosition area = pos.toArea(rayAreaXOffset, rayAreaYOffset, rayAreaZOffset,
-                    rayAreaXOffset2, rayAreaYOffset2, rayAreaZOffset2);
-
-            boolean isBlocked = true;
-            for (Position3D container : area.getContents()) {
-                Block block = container.getBlock();
-                Material type = block.getType();
-
-                if (type.isBlock() && type.isSolid()) {
-                    if (!type.isInteractable() && type.isOccluding())
-                        continue iterator;
-                }
-
-                if (type.isAir() || !type.isOccluding() ||
-                        type.isInteractable() || type.equals(Material.WATER) ||
-                        type.equals(Material.LAVA)) {
-                    isBlocked = false;
-                    break;
-                }
-            }
-
-            if (isBlocked) {
-                return false;
-            }
+        /*
+        The look direction shares the rotation sines and
+        cosines, so targets behind the viewer are rejected
+        without any extra trigonometry
+         */
+        if (!ViewCone.FRONT.contains(x1, y1, z1, sinYaw * cosPitch, sinPitch, cosYaw * cosPitch, x2, y2, z2)) {
+            return false;
+        }
+
+        double rotatedX = cosYaw * (x2 - x1) - sinYaw * (z2 - z1) + x1;
+        double rotatedZ = sinYaw * (x2 - x1) + cosYaw * (z2 - z1) + z1;
+
+        double rotatedY = cosPitch * (y2 - y1) - sinPitch * (rotatedZ - z1) + y1;
+        rotatedZ = sinPitch * (y2 - y1) + cosPitch * (rotatedZ - z1) + z1;
+
+        LineOfSight sight = LineOfSight.fromArea(rayAreaXOffset, rayAreaYOffset, rayAreaZOffset,
+                rayAreaXOffset2, rayAreaYOffset2, rayAreaZOffset2);
+
+        GameLib lib = GameLib.getInstance();
+        if (lib != null && lib.getSightCache() != null && lib.getSightCache().getSight() == sight) {
+            return lib.getSightCache().canSee(world, x1, y1, z1, rotatedX, rotatedY, rotatedZ);
+        }
+
+        return sight.canSee(world, x1, y1, z1, rotatedX, rotatedY, rotatedZ);
+    }
+
+    /**
+     * Get if the entity is able to see
+     * the other entity, which must be inside
+     * the entity view cone. Targets outside the
+     * cone are rejected before any block is
+     * sampled, and the line of sight is only
+     * traced for the targets inside it. The default
+     * raytrace area is of 1x1x1 (one block).
+     *
+     * @param other the other entity
+     * @param cone the entity view cone
+     * @return if the entity can see the other
+     * entity
+     */
+    default boolean canSeeDirectly(final EngineEntity other, final ViewCone cone) {
+        return canSeeDirectly(other, cone, 1, 1, 1, -1, -1, -1);
+    }
+
+    /**
+     * Get if the entity is able to see
+     * the other entity, which must be inside
+     * the entity view cone. Targets outside the
+     * cone are rejected before any block is
+     * sampled, and the line of sight is only
+     * traced for the targets inside it
+     *
+     * @param otherEntity the other entity
+     * @param cone the entity view cone
+     * @param rayAreaXOffset the raytrace X area offset
+     * @param rayAreaYOffset the raytrace Y area offset
+     * @param rayAreaZOffset the raytrace Z area offset
+     * @param rayAreaXOffset2 the raytrace X area offset 2
+     * @param rayAreaYOffset2 the raytrace Y area offset 2
+     * @param rayAreaZOffset2 the raytrace Z area offset 2
+     * @return if the entity can see the other
+     * entity
+     */
+    default boolean canSeeDirectly(final EngineEntity otherEntity, final ViewCone cone,
+                                   final double rayAreaXOffset, final double rayAreaYOffset, final double rayAreaZOffset,
+                                   final double rayAreaXOffset2, final double rayAreaYOffset2, final double rayAreaZOffset2) {
+        Position3D current = getPosition();
+        Position3D other = otherEntity.getPosition();
+        if (!cone.contains(current, getLook(), other)) return false;
+
+        LineOfSight sight = LineOfSight.fromArea(rayAreaXOffset, rayAreaYOffset, rayAreaZOffset,
+                rayAreaXOffset2, rayAreaYOffset2, rayAreaZOffset2);
+
+        GameLib lib = GameLib.getInstance();
+        if (lib != null && lib.getSightCache() != null && lib.getSightCache().getSight() == sight) {
+            return lib.getSightCache().canSee(current, other);
         }
 
-        return true;
+        return sight.canSee(current, other);
     }
-}
\ No newline at end of file
+}
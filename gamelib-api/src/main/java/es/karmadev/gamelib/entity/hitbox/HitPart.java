@@ -0,0 +1,16 @@
+package es.karmadev.gamelib.entity.hitbox;
+
+/**
+ * Represents the part of an
+ * entity hit by a ray
+ */
+public enum HitPart {
+    /**
+     * The entity head
+     */
+    HEAD,
+    /**
+     * The entity body
+     */
+    BODY
+}
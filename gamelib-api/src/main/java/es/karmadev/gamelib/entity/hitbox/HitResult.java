@@ -0,0 +1,92 @@
+package es.karmadev.gamelib.entity.hitbox;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the result of a traced
+ * shot. A result can be reused across
+ * traces, so resolving shots does not
+ * need to allocate any result
+ */
+public final class HitResult {
+
+    private EngineEntity entity;
+    private double distance = Hitbox.NO_HIT;
+    private HitPart part;
+
+    /**
+     * Get the hit entity
+     *
+     * @return the hit entity, or null
+     * if nothing was hit
+     */
+    @Nullable
+    public EngineEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Get the distance from the ray
+     * origin to the hit
+     *
+     * @return the hit distance, or {@link Hitbox#NO_HIT}
+     * if nothing was hit
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Get the hit entity part
+     *
+     * @return the hit part, or null
+     * if nothing was hit
+     */
+    @Nullable
+    public HitPart getPart() {
+        return part;
+    }
+
+    /**
+     * Get if an entity was hit
+     *
+     * @return if an entity was hit
+     */
+    public boolean isHit() {
+        return entity != null;
+    }
+
+    /**
+     * Get if the hit entity was
+     * hit in the head
+     *
+     * @return if the shot was a headshot
+     */
+    public boolean isHeadshot() {
+        return part == HitPart.HEAD;
+    }
+
+    /**
+     * Set the result hit
+     *
+     * @param entity the hit entity
+     * @param distance the hit distance
+     * @param part the hit part
+     */
+    public void set(final EngineEntity entity, final double distance, final HitPart part) {
+        this.entity = entity;
+        this.distance = distance;
+        this.part = part;
+    }
+
+    /**
+     * Reset the result, so it
+     * represents no hit
+     */
+    public void reset() {
+        entity = null;
+        distance = Hitbox.NO_HIT;
+        part = null;
+    }
+}
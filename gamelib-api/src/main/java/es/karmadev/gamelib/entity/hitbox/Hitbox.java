@@ -0,0 +1,312 @@
+package es.karmadev.gamelib.entity.hitbox;
+
+/**
+ * Represents the head and body boxes of
+ * an entity. The boxes are described relative
+ * to the entity position, and their sizes are the
+ * ones of the entity at the moment the hitbox was
+ * taken, as some entities change their size
+ * over time, such as slimes or sneaking players.
+ * <p>
+ * None of the intersection methods allocate
+ * anything
+ */
+public final class Hitbox {
+
+    /**
+     * The distance returned when the
+     * ray does not hit the box
+     */
+    public final static double NO_HIT = Double.POSITIVE_INFINITY;
+
+    private final double headWidth;
+    private final double headHeight;
+    private final double headForward;
+    private final double eyeHeight;
+    private final double bodyWidth;
+    private final double bodyHeight;
+
+    /**
+     * Initialize the hitbox
+     *
+     * @param headWidth the head width
+     * @param headHeight the head height
+     * @param headForward the distance from the eyes to
+     *                    the head center, towards where the
+     *                    entity is looking at
+     * @param eyeHeight the height of the eyes
+     * @param bodyWidth the body width
+     * @param bodyHeight the body height
+     */
+    public Hitbox(final double headWidth, final double headHeight, final double headForward,
+                  final double eyeHeight, final double bodyWidth, final double bodyHeight) {
+        this.headWidth = headWidth;
+        this.headHeight = headHeight;
+        this.headForward = headForward;
+        this.eyeHeight = eyeHeight;
+        this.bodyWidth = bodyWidth;
+        this.bodyHeight = bodyHeight;
+    }
+
+    /**
+     * Get the head width
+     *
+     * @return the head width
+     */
+    public double getHeadWidth() {
+        return headWidth;
+    }
+
+    /**
+     * Get the head height
+     *
+     * @return the head height
+     */
+    public double getHeadHeight() {
+        return headHeight;
+    }
+
+    /**
+     * Get the distance from the eyes
+     * to the head center, towards where the
+     * entity is looking at
+     *
+     * @return the head forward distance
+     */
+    public double getHeadForward() {
+        return headForward;
+    }
+
+    /**
+     * Get the height of the eyes
+     *
+     * @return the eye height
+     */
+    public double getEyeHeight() {
+        return eyeHeight;
+    }
+
+    /**
+     * Get the body width
+     *
+     * @return the body width
+     */
+    public double getBodyWidth() {
+        return bodyWidth;
+    }
+
+    /**
+     * Get the body height
+     *
+     * @return the body height
+     */
+    public double getBodyHeight() {
+        return bodyHeight;
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters the head box
+     *
+     * @param x the entity X
+     * @param y the entity Y
+     * @param z the entity Z
+     * @param yaw the entity yaw
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @return the hit distance, or {@link #NO_HIT}
+     */
+    public double intersectHead(final double x, final double y, final double z, final float yaw,
+                                final double originX, final double originY, final double originZ,
+                                final double directionX, final double directionY, final double directionZ,
+                                final double maxDistance) {
+        return intersectHead(x, y, z, yaw, headWidth, headHeight, headForward, eyeHeight,
+                originX, originY, originZ, directionX, directionY, directionZ, maxDistance);
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters the body box
+     *
+     * @param x the entity X
+     * @param y the entity Y
+     * @param z the entity Z
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @return the hit distance, or {@link #NO_HIT}
+     */
+    public double intersectBody(final double x, final double y, final double z,
+                                final double originX, final double originY, final double originZ,
+                                final double directionX, final double directionY, final double directionZ,
+                                final double maxDistance) {
+        return intersectBody(x, y, z, bodyWidth, bodyHeight,
+                originX, originY, originZ, directionX, directionY, directionZ, maxDistance);
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters a head box
+     *
+     * @param x the entity X
+     * @param y the entity Y
+     * @param z the entity Z
+     * @param yaw the entity yaw
+     * @param headWidth the head width
+     * @param headHeight the head height
+     * @param headForward the distance from the eyes to
+     *                    the head center, towards where the
+     *                    entity is looking at
+     * @param eyeHeight the height of the eyes
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @return the hit distance, or {@link #NO_HIT}
+     */
+    public static double intersectHead(final double x, final double y, final double z, final float yaw,
+                                       final double headWidth, final double headHeight,
+                                       final double headForward, final double eyeHeight,
+                                       final double originX, final double originY, final double originZ,
+                                       final double directionX, final double directionY, final double directionZ,
+                                       final double maxDistance) {
+        double radians = Math.toRadians(yaw);
+        double centerX = x - Math.sin(radians) * headForward;
+        double centerY = y + eyeHeight;
+        double centerZ = z + Math.cos(radians) * headForward;
+
+        double halfWidth = headWidth / 2;
+        double halfHeight = headHeight / 2;
+        return intersect(originX, originY, originZ, directionX, directionY, directionZ, maxDistance,
+                centerX - halfWidth, centerY - halfHeight, centerZ - halfWidth,
+                centerX + halfWidth, centerY + halfHeight, centerZ + halfWidth);
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters a body box
+     *
+     * @param x the entity X
+     * @param y the entity Y
+     * @param z the entity Z
+     * @param bodyWidth the body width
+     * @param bodyHeight the body height
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @return the hit distance, or {@link #NO_HIT}
+     */
+    public static double intersectBody(final double x, final double y, final double z,
+                                       final double bodyWidth, final double bodyHeight,
+                                       final double originX, final double originY, final double originZ,
+                                       final double directionX, final double directionY, final double directionZ,
+                                       final double maxDistance) {
+        double halfWidth = bodyWidth / 2;
+        return intersect(originX, originY, originZ, directionX, directionY, directionZ, maxDistance,
+                x - halfWidth, y, z - halfWidth,
+                x + halfWidth, y + bodyHeight, z + halfWidth);
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters the box. Rays starting inside
+     * the box hit it at distance zero
+     *
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @param minX the box min X
+     * @param minY the box min Y
+     * @param minZ the box min Z
+     * @param maxX the box max X
+     * @param maxY the box max Y
+     * @param maxZ the box max Z
+     * @return the hit distance, or {@link #NO_HIT}
+     */
+    public static double intersect(final double originX, final double originY, final double originZ,
+                                   final double directionX, final double directionY, final double directionZ,
+                                   final double maxDistance,
+                                   final double minX, final double minY, final double minZ,
+                                   final double maxX, final double maxY, final double maxZ) {
+        double enter = 0;
+        double exit = maxDistance;
+
+        if (directionX == 0) {
+            if (originX < minX || originX > maxX) return NO_HIT;
+        } else {
+            double inverse = 1 / directionX;
+            double near = (minX - originX) * inverse;
+            double far = (maxX - originX) * inverse;
+            if (near > far) {
+                double swap = near;
+                near = far;
+                far = swap;
+            }
+
+            enter = Math.max(enter, near);
+            exit = Math.min(exit, far);
+            if (enter > exit) return NO_HIT;
+        }
+
+        if (directionY == 0) {
+            if (originY < minY || originY > maxY) return NO_HIT;
+        } else {
+            double inverse = 1 / directionY;
+            double near = (minY - originY) * inverse;
+            double far = (maxY - originY) * inverse;
+            if (near > far) {
+                double swap = near;
+                near = far;
+                far = swap;
+            }
+
+            enter = Math.max(enter, near);
+            exit = Math.min(exit, far);
+            if (enter > exit) return NO_HIT;
+        }
+
+        if (directionZ == 0) {
+            if (originZ < minZ || originZ > maxZ) return NO_HIT;
+        } else {
+            double inverse = 1 / directionZ;
+            double near = (minZ - originZ) * inverse;
+            double far = (maxZ - originZ) * inverse;
+            if (near > far) {
+                double swap = near;
+                near = far;
+                far = swap;
+            }
+
+            enter = Math.max(enter, near);
+            exit = Math.min(exit, far);
+            if (enter > exit) return NO_HIT;
+        }
+
+        return enter;
+    }
+}
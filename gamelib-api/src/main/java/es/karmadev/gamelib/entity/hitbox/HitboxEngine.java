@@ -0,0 +1,136 @@
+package es.karmadev.gamelib.entity.hitbox;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.Position3D;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Represents the hitbox engine, which
+ * resolves shots against the {@link Hitbox hitbox}
+ * of the entities near the shot ray. Head boxes are
+ * the same for every entity of a type and age, but
+ * body boxes and eye heights are read from each
+ * entity, as they change with its size and pose
+ */
+public interface HitboxEngine {
+
+    /**
+     * Get the current hitbox of an entity
+     *
+     * @param entity the entity
+     * @return the entity hitbox, or null if
+     * the entity has no hitbox
+     */
+    @Nullable
+    Hitbox getHitbox(final EngineEntity entity);
+
+    /**
+     * Trace a shot against every entity near
+     * the ray, keeping the nearest hit. An entity
+     * is hit at the distance its ray enters any of
+     * its boxes, and the hit is a headshot if the
+     * ray crosses its head box
+     *
+     * @param world the shot world
+     * @param originX the shot origin X
+     * @param originY the shot origin Y
+     * @param originZ the shot origin Z
+     * @param directionX the shot direction X
+     * @param directionY the shot direction Y
+     * @param directionZ the shot direction Z
+     * @param maxDistance the shot max distance, in blocks
+     * @param filter the entities which can be hit
+     * @param result the result to write the nearest
+     *               hit into
+     * @return if an entity was hit
+     */
+    boolean trace(final World world, final double originX, final double originY, final double originZ,
+                  final double directionX, final double directionY, final double directionZ,
+                  final double maxDistance, final Predicate<? super EngineEntity> filter, final HitResult result);
+
+    /**
+     * Trace a shot between the positions against
+     * every entity near the segment, keeping the nearest
+     * hit
+     *
+     * @param from the shot origin
+     * @param to the shot end
+     * @param filter the entities which can be hit
+     * @param result the result to write the nearest
+     *               hit into
+     * @return if an entity was hit
+     */
+    default boolean trace(final Position3D from, final Position3D to,
+                          final Predicate<? super EngineEntity> filter, final HitResult result) {
+        World world = from.getWorld();
+        if (world == null || !world.equals(to.getWorld())) {
+            result.reset();
+            return false;
+        }
+
+        double directionX = to.getX() - from.getX();
+        double directionY = to.getY() - from.getY();
+        double directionZ = to.getZ() - from.getZ();
+        double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+
+        return trace(world, from.getX(), from.getY(), from.getZ(),
+                directionX, directionY, directionZ, length, filter, result);
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters the entity head box
+     *
+     * @param entity the entity
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @return the hit distance, or {@link Hitbox#NO_HIT}
+     */
+    default double intersectHead(final EngineEntity entity,
+                                 final double originX, final double originY, final double originZ,
+                                 final double directionX, final double directionY, final double directionZ,
+                                 final double maxDistance) {
+        Hitbox hitbox = getHitbox(entity);
+        if (hitbox == null) return Hitbox.NO_HIT;
+
+        Position3D position = entity.getPosition();
+        return hitbox.intersectHead(position.getX(), position.getY(), position.getZ(), position.getYaw(),
+                originX, originY, originZ, directionX, directionY, directionZ, maxDistance);
+    }
+
+    /**
+     * Get the distance at which the ray
+     * enters the entity body box
+     *
+     * @param entity the entity
+     * @param originX the ray origin X
+     * @param originY the ray origin Y
+     * @param originZ the ray origin Z
+     * @param directionX the ray direction X
+     * @param directionY the ray direction Y
+     * @param directionZ the ray direction Z
+     * @param maxDistance the ray length, in direction
+     *                    lengths
+     * @return the hit distance, or {@link Hitbox#NO_HIT}
+     */
+    default double intersectBody(final EngineEntity entity,
+                                 final double originX, final double originY, final double originZ,
+                                 final double directionX, final double directionY, final double directionZ,
+                                 final double maxDistance) {
+        Hitbox hitbox = getHitbox(entity);
+        if (hitbox == null) return Hitbox.NO_HIT;
+
+        Position3D position = entity.getPosition();
+        return hitbox.intersectBody(position.getX(), position.getY(), position.getZ(),
+                originX, originY, originZ, directionX, directionY, directionZ, maxDistance);
+    }
+}
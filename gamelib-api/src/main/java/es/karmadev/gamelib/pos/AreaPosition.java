@@ -1,6 +1,5 @@
 package es.karmadev.gamelib.pos;
 
-import es.karmadev.gamelib.math.MathUtils;
 import org.bukkit.World;
 
 /**
@@ -14,7 +13,11 @@ public final class AreaPosition {
      */
     public final static double DEFAULT_ERROR_THRESHOLD = 0.00000000000000000000000000;
 
-    private final Position3D[] positions;
+    /**
+     * The sweep time reported when the
+     * moving area never hits the other area
+     */
+    public final static double NO_IMPACT = Double.POSITIVE_INFINITY;
 
     private final Position3D center;
     private final double maxX, maxY, maxZ, minX, minY, minZ;
@@ -41,19 +44,70 @@ public final class AreaPosition {
         this.minX = minX;
         this.minY = minY;
         this.minZ = minZ;
-
-        int size = calculatePositions();
-        this.positions = new Position3D[size];
-        mapPositions(center.getWorld());
     }
 
     /**
-     * Get the area contents
+     * Get the area contents. Please note
+     * the contents are created on each call,
+     * use {@link #forEachContent(VoxelVisitor)} to
+     * iterate over them without creating any
+     * position
      *
      * @return the area contents
      */
     public Position3D[] getContents() {
-        return positions.clone();
+        World world = center.getWorld();
+        Position3D[] positions = new Position3D[getContentsSize()];
+
+        int index = 0;
+        for (int x = (int) minX; x < (int) maxX; x++) {
+            for (int y = (int) minY; y < (int) maxY; y++) {
+                for (int z = (int) minZ; z < (int) maxZ; z++) {
+                    positions[index++] = new Position3D(world, x, y, z, 0f, 0f, true);
+                }
+            }
+        }
+
+        return positions;
+    }
+
+    /**
+     * Get the amount of block coordinates
+     * inside the area
+     *
+     * @return the area contents size
+     */
+    public int getContentsSize() {
+        int sizeX = Math.max(0, (int) maxX - (int) minX);
+        int sizeY = Math.max(0, (int) maxY - (int) minY);
+        int sizeZ = Math.max(0, (int) maxZ - (int) minZ);
+
+        return sizeX * sizeY * sizeZ;
+    }
+
+    /**
+     * Visit the block coordinates inside
+     * the area, without creating any position
+     *
+     * @param visitor the coordinates visitor. The
+     *                iteration stops once the visitor
+     *                returns false
+     * @return if all the coordinates were visited
+     */
+    public boolean forEachContent(final VoxelVisitor visitor) {
+        int toX = (int) maxX;
+        int toY = (int) maxY;
+        int toZ = (int) maxZ;
+
+        for (int x = (int) minX; x < toX; x++) {
+            for (int y = (int) minY; y < toY; y++) {
+                for (int z = (int) minZ; z < toZ; z++) {
+                    if (!visitor.visit(x, y, z)) return false;
+                }
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -146,6 +200,43 @@ public final class AreaPosition {
         return checkCollision(x, y, z, errorThreshold);
     }
 
+    /**
+     * Get if the area position contains
+     * the specified vector
+     *
+     * @param vector the vector
+     * @return if the area contains the vector
+     */
+    public boolean contains(final Vec3 vector) {
+        return contains(vector, DEFAULT_ERROR_THRESHOLD);
+    }
+
+    /**
+     * Get if the area position contains
+     * the specified vector
+     *
+     * @param vector the vector
+     * @param errorThreshold the error threshold
+     * @return if the area contains the vector
+     */
+    public boolean contains(final Vec3 vector, final double errorThreshold) {
+        return contains(vector.getX(), vector.getY(), vector.getZ(), errorThreshold);
+    }
+
+    /**
+     * Get if the area position contains
+     * the specified coordinates
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @param errorThreshold the error threshold
+     * @return if the area contains the coordinates
+     */
+    public boolean contains(final double x, final double y, final double z, final double errorThreshold) {
+        return checkCollision(x, y, z, errorThreshold);
+    }
+
     /**
      * Get if the area position contains any
      * of the other area position positions
@@ -201,17 +292,136 @@ public final class AreaPosition {
      * position
      */
     public boolean collidesWith(final AreaPosition other, final double errorThreshold) {
-        double otherXTop = other.getMaxX();
-        double otherYTop = other.getMaxY();
-        double otherZTop = other.getMaxZ();
-        double otherXBot = other.getMinX();
-        double otherYBot = other.getMinY();
-        double otherZBot = other.getMinZ();
+        return minX - errorThreshold <= other.maxX && maxX + errorThreshold >= other.minX &&
+                minY - errorThreshold <= other.maxY && maxY + errorThreshold >= other.minY &&
+                minZ - errorThreshold <= other.maxZ && maxZ + errorThreshold >= other.minZ;
+    }
+
+    /**
+     * Get the time at which the area, moving
+     * by the motion, first hits the other area
+     *
+     * @param motion the area motion
+     * @param other the other area
+     * @return the time of impact, from 0 (already colliding)
+     * to 1 (at the end of the motion), or {@link #NO_IMPACT}
+     */
+    public double sweep(final Vec3 motion, final AreaPosition other) {
+        return sweep(motion.getX(), motion.getY(), motion.getZ(), other);
+    }
+
+    /**
+     * Get the time at which the area, moving
+     * by the motion, first hits the other area
+     *
+     * @param motionX the area X motion
+     * @param motionY the area Y motion
+     * @param motionZ the area Z motion
+     * @param other the other area
+     * @return the time of impact, from 0 (already colliding)
+     * to 1 (at the end of the motion), or {@link #NO_IMPACT}
+     */
+    public double sweep(final double motionX, final double motionY, final double motionZ, final AreaPosition other) {
+        return sweep(1 / motionX, 1 / motionY, 1 / motionZ, other.minX, other.minY, other.minZ,
+                other.maxX, other.maxY, other.maxZ);
+    }
+
+    /**
+     * Get the time at which the area first hits
+     * the other area, while both of them move
+     *
+     * @param motion the area motion
+     * @param other the other area
+     * @param otherMotion the other area motion
+     * @return the time of impact, from 0 (already colliding)
+     * to 1 (at the end of the motion), or {@link #NO_IMPACT}
+     */
+    public double sweep(final Vec3 motion, final AreaPosition other, final Vec3 otherMotion) {
+        return sweep(motion.getX() - otherMotion.getX(), motion.getY() - otherMotion.getY(),
+                motion.getZ() - otherMotion.getZ(), other);
+    }
+
+    /**
+     * Sweep the area against many other areas.
+     * Only the first impact is usually relevant, so
+     * the index of the area which is hit first
+     * is returned
+     *
+     * @param motion the area motion
+     * @param others the other areas
+     * @param times the array to store the time of impact
+     *              of each area into, or null
+     * @return the index of the area which is hit first,
+     * or -1 if no area is hit
+     */
+    public int sweep(final Vec3 motion, final AreaPosition[] others, final double[] times) {
+        double inverseX = 1 / motion.getX();
+        double inverseY = 1 / motion.getY();
+        double inverseZ = 1 / motion.getZ();
+
+        int first = -1;
+        double firstTime = NO_IMPACT;
+        for (int i = 0; i < others.length; i++) {
+            AreaPosition other = others[i];
+            double time = sweep(inverseX, inverseY, inverseZ, other.minX, other.minY, other.minZ,
+                    other.maxX, other.maxY, other.maxZ);
+
+            if (times != null) times[i] = time;
+            if (time < firstTime) {
+                first = i;
+                firstTime = time;
+            }
+        }
 
-        return checkCollision(otherXTop, otherYTop, otherZTop, errorThreshold) ||
-                checkCollision(otherXBot, otherYBot, otherZBot, errorThreshold) ||
-                other.checkCollision(getMaxX(), getMaxY(), getMaxZ(), errorThreshold) ||
-                other.checkCollision(getMinX(), getMinY(), getMinZ(), errorThreshold);
+        return first;
+    }
+
+    /**
+     * Get the time at which the area, moving
+     * by the motion, first hits the box. The motion
+     * is provided inverted, so a zero motion on an
+     * axis becomes an infinite inverse
+     *
+     * @param inverseX the inverse X motion
+     * @param inverseY the inverse Y motion
+     * @param inverseZ the inverse Z motion
+     * @return the time of impact, or {@link #NO_IMPACT}
+     */
+    private double sweep(final double inverseX, final double inverseY, final double inverseZ,
+                         final double boxMinX, final double boxMinY, final double boxMinZ,
+                         final double boxMaxX, final double boxMaxY, final double boxMaxZ) {
+        double enter = Double.NEGATIVE_INFINITY;
+        double exit = Double.POSITIVE_INFINITY;
+
+        if (Double.isInfinite(inverseX)) {
+            if (maxX < boxMinX || minX > boxMaxX) return NO_IMPACT;
+        } else {
+            double near = (boxMinX - maxX) * inverseX;
+            double far = (boxMaxX - minX) * inverseX;
+            enter = Math.max(enter, Math.min(near, far));
+            exit = Math.min(exit, Math.max(near, far));
+        }
+
+        if (Double.isInfinite(inverseY)) {
+            if (maxY < boxMinY || minY > boxMaxY) return NO_IMPACT;
+        } else {
+            double near = (boxMinY - maxY) * inverseY;
+            double far = (boxMaxY - minY) * inverseY;
+            enter = Math.max(enter, Math.min(near, far));
+            exit = Math.min(exit, Math.max(near, far));
+        }
+
+        if (Double.isInfinite(inverseZ)) {
+            if (maxZ < boxMinZ || minZ > boxMaxZ) return NO_IMPACT;
+        } else {
+            double near = (boxMinZ - maxZ) * inverseZ;
+            double far = (boxMaxZ - minZ) * inverseZ;
+            enter = Math.max(enter, Math.min(near, far));
+            exit = Math.min(exit, Math.max(near, far));
+        }
+
+        if (enter > exit || exit < 0 || enter > 1) return NO_IMPACT;
+        return Math.max(0, enter);
     }
 
     /**
@@ -240,30 +450,4 @@ public final class AreaPosition {
                 z <= zOffsetTop &&
                 z >= zOffsetBot;
     }
-
-    /**
-     * Calculate the area positions
-     */
-    private int calculatePositions() {
-        return MathUtils.calcCubeArea(
-                maxX, maxY, maxZ,
-                minX, minY, minZ
-        );
-    }
-
-    /**
-     * Map the area positions
-     * @param world the world to map for
-     */
-    private void mapPositions(final World world) {
-        int index = 0;
-        for (int x = (int) minX; x < (int) maxX; x++) {
-            for (int y = (int) minY; y < (int) maxY; y++) {
-                for (int z = (int) minZ; z < (int) maxZ; z++) {
-                    Position3D position = new Position3D(world, x, y, z);
-                    positions[index++] = position.asImmutable();
-                }
-            }
-        }
-    }
 }
\ No newline at end of file
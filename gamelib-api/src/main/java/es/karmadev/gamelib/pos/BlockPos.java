@@ -0,0 +1,258 @@
+package es.karmadev.gamelib.pos;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an immutable block position,
+ * packed into a single long. The X and Z
+ * coordinates take 26 bits each, and the Y
+ * coordinate takes 12 bits, so X and Z range
+ * between -33554432 and 33554431, and Y between
+ * -2048 and 2047.
+ * <p>
+ * Hot code can work with the {@link #pack(int, int, int) packed}
+ * value directly, without creating any position
+ */
+public final class BlockPos {
+
+    private final static int XZ_BITS = 26;
+    private final static int Y_BITS = 12;
+
+    private final static long XZ_MASK = (1L << XZ_BITS) - 1;
+    private final static long Y_MASK = (1L << Y_BITS) - 1;
+
+    private final static int Z_SHIFT = Y_BITS;
+    private final static int X_SHIFT = Y_BITS + XZ_BITS;
+
+    private final long value;
+
+    /**
+     * Initialize the block position
+     *
+     * @param value the packed position
+     */
+    private BlockPos(final long value) {
+        this.value = value;
+    }
+
+    /**
+     * Create a block position
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the block position
+     */
+    public static BlockPos of(final int x, final int y, final int z) {
+        return new BlockPos(pack(x, y, z));
+    }
+
+    /**
+     * Create a block position from its
+     * packed value
+     *
+     * @param value the packed position
+     * @return the block position
+     */
+    public static BlockPos of(final long value) {
+        return new BlockPos(value);
+    }
+
+    /**
+     * Create a block position from
+     * a location
+     *
+     * @param location the location
+     * @return the block position
+     */
+    public static BlockPos of(final Location location) {
+        return of(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Create a block position from
+     * a block
+     *
+     * @param block the block
+     * @return the block position
+     */
+    public static BlockPos of(final Block block) {
+        return of(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Pack the block coordinates
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the packed position
+     */
+    public static long pack(final int x, final int y, final int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    /**
+     * Get the block X of a packed
+     * position
+     *
+     * @param value the packed position
+     * @return the block X
+     */
+    public static int unpackX(final long value) {
+        return (int) (value >> X_SHIFT);
+    }
+
+    /**
+     * Get the block Y of a packed
+     * position
+     *
+     * @param value the packed position
+     * @return the block Y
+     */
+    public static int unpackY(final long value) {
+        return (int) (value << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /**
+     * Get the block Z of a packed
+     * position
+     *
+     * @param value the packed position
+     * @return the block Z
+     */
+    public static int unpackZ(final long value) {
+        return (int) (value << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * Get the packed position
+     *
+     * @return the packed position
+     */
+    public long asLong() {
+        return value;
+    }
+
+    /**
+     * Get the block X
+     *
+     * @return the block X
+     */
+    public int getX() {
+        return unpackX(value);
+    }
+
+    /**
+     * Get the block Y
+     *
+     * @return the block Y
+     */
+    public int getY() {
+        return unpackY(value);
+    }
+
+    /**
+     * Get the block Z
+     *
+     * @return the block Z
+     */
+    public int getZ() {
+        return unpackZ(value);
+    }
+
+    /**
+     * Get the block position relative
+     * to this one
+     *
+     * @param x the X offset
+     * @param y the Y offset
+     * @param z the Z offset
+     * @return the relative block position
+     */
+    public BlockPos offset(final int x, final int y, final int z) {
+        return of(getX() + x, getY() + y, getZ() + z);
+    }
+
+    /**
+     * Get the center of the block
+     *
+     * @return the block center
+     */
+    public Vec3 center() {
+        return Vec3.of(getX() + 0.5, getY() + 0.5, getZ() + 0.5);
+    }
+
+    /**
+     * Get the block position as
+     * a vector
+     *
+     * @return the vector
+     */
+    public Vec3 toVec3() {
+        return Vec3.of(getX(), getY(), getZ());
+    }
+
+    /**
+     * Get the block position as
+     * a position
+     *
+     * @param world the position world
+     * @return the position
+     */
+    public Position3D toPosition(final @Nullable World world) {
+        return new Position3D(world, getX(), getY(), getZ());
+    }
+
+    /**
+     * Get the block of the world
+     * at the block position
+     *
+     * @param world the world
+     * @return the block
+     */
+    public Block getBlock(final World world) {
+        return world.getBlockAt(getX(), getY(), getZ());
+    }
+
+    /**
+     * Get if the object equals the
+     * block position
+     *
+     * @param obj the object
+     * @return if the object is the same
+     * block position
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BlockPos)) return false;
+
+        return value == ((BlockPos) obj).value;
+    }
+
+    /**
+     * Get the block position hash
+     * code
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * Get the block position as
+     * a string
+     *
+     * @return the block position string
+     */
+    @Override
+    public String toString() {
+        return "BlockPos{x=" + getX() + ", y=" + getY() + ", z=" + getZ() + "}";
+    }
+}
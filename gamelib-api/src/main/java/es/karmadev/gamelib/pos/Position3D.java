@@ -358,6 +358,25 @@ public class Position3D extends Location {
         return new Position3D(getWorld(), x, y, z);
     }
 
+    /**
+     * Get the position as a vector
+     *
+     * @return the vector
+     */
+    public Vec3 toVec3() {
+        return Vec3.of(getX(), getY(), getZ());
+    }
+
+    /**
+     * Get the block position of
+     * the position
+     *
+     * @return the block position
+     */
+    public BlockPos toBlockPos() {
+        return BlockPos.of(getBlockX(), getBlockY(), getBlockZ());
+    }
+
     /**
      * Get the area position of the
      * current position
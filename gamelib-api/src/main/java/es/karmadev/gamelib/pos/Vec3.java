@@ -0,0 +1,308 @@
+package es.karmadev.gamelib.pos;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an immutable 3D vector. Unlike
+ * {@link Position3D}, the vector carries no world
+ * or rotation, so it's cheap to create on hot
+ * paths
+ */
+public final class Vec3 {
+
+    /**
+     * The zero vector
+     */
+    public final static Vec3 ZERO = new Vec3(0, 0, 0);
+
+    private final double x, y, z;
+
+    /**
+     * Initialize the vector
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     */
+    private Vec3(final double x, final double y, final double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Create a vector
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the vector
+     */
+    public static Vec3 of(final double x, final double y, final double z) {
+        return new Vec3(x, y, z);
+    }
+
+    /**
+     * Create a vector from a location
+     *
+     * @param location the location
+     * @return the vector
+     */
+    public static Vec3 of(final Location location) {
+        return new Vec3(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the X coordinate
+     *
+     * @return the X coordinate
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Get the Y coordinate
+     *
+     * @return the Y coordinate
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Get the Z coordinate
+     *
+     * @return the Z coordinate
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Get the block X coordinate
+     *
+     * @return the block X coordinate
+     */
+    public int getBlockX() {
+        return (int) Math.floor(x);
+    }
+
+    /**
+     * Get the block Y coordinate
+     *
+     * @return the block Y coordinate
+     */
+    public int getBlockY() {
+        return (int) Math.floor(y);
+    }
+
+    /**
+     * Get the block Z coordinate
+     *
+     * @return the block Z coordinate
+     */
+    public int getBlockZ() {
+        return (int) Math.floor(z);
+    }
+
+    /**
+     * Add the coordinates to the vector
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the resulting vector
+     */
+    public Vec3 add(final double x, final double y, final double z) {
+        return new Vec3(this.x + x, this.y + y, this.z + z);
+    }
+
+    /**
+     * Add a vector to the vector
+     *
+     * @param other the other vector
+     * @return the resulting vector
+     */
+    public Vec3 add(final Vec3 other) {
+        return add(other.x, other.y, other.z);
+    }
+
+    /**
+     * Subtract the coordinates from
+     * the vector
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the resulting vector
+     */
+    public Vec3 subtract(final double x, final double y, final double z) {
+        return new Vec3(this.x - x, this.y - y, this.z - z);
+    }
+
+    /**
+     * Subtract a vector from the vector
+     *
+     * @param other the other vector
+     * @return the resulting vector
+     */
+    public Vec3 subtract(final Vec3 other) {
+        return subtract(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiply the vector by a scalar
+     *
+     * @param m the scalar
+     * @return the resulting vector
+     */
+    public Vec3 multiply(final double m) {
+        return new Vec3(x * m, y * m, z * m);
+    }
+
+    /**
+     * Get the dot product between
+     * the vectors
+     *
+     * @param other the other vector
+     * @return the dot product
+     */
+    public double dot(final Vec3 other) {
+        return x * other.x + y * other.y + z * other.z;
+    }
+
+    /**
+     * Get the squared length of the
+     * vector
+     *
+     * @return the squared length
+     */
+    public double lengthSquared() {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Get the length of the vector
+     *
+     * @return the length
+     */
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    /**
+     * Get the normalized vector. The zero
+     * vector is returned as is
+     *
+     * @return the normalized vector
+     */
+    public Vec3 normalize() {
+        double length = length();
+        if (length == 0) return this;
+
+        return new Vec3(x / length, y / length, z / length);
+    }
+
+    /**
+     * Get the squared distance between the
+     * vector and the coordinates
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the squared distance
+     */
+    public double distanceSquared(final double x, final double y, final double z) {
+        double dX = this.x - x;
+        double dY = this.y - y;
+        double dZ = this.z - z;
+
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+    /**
+     * Get the squared distance between
+     * the vectors
+     *
+     * @param other the other vector
+     * @return the squared distance
+     */
+    public double distanceSquared(final Vec3 other) {
+        return distanceSquared(other.x, other.y, other.z);
+    }
+
+    /**
+     * Get the distance between the
+     * vectors
+     *
+     * @param other the other vector
+     * @return the distance
+     */
+    public double distance(final Vec3 other) {
+        return Math.sqrt(distanceSquared(other));
+    }
+
+    /**
+     * Get the block position of
+     * the vector
+     *
+     * @return the block position
+     */
+    public BlockPos toBlockPos() {
+        return BlockPos.of(getBlockX(), getBlockY(), getBlockZ());
+    }
+
+    /**
+     * Get the vector as a position
+     *
+     * @param world the position world
+     * @return the position
+     */
+    public Position3D toPosition(final @Nullable World world) {
+        return new Position3D(world, x, y, z);
+    }
+
+    /**
+     * Get if the object equals the
+     * vector
+     *
+     * @param obj the object
+     * @return if the object is the same
+     * vector
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Vec3)) return false;
+
+        Vec3 other = (Vec3) obj;
+        return Double.compare(x, other.x) == 0 &&
+                Double.compare(y, other.y) == 0 &&
+                Double.compare(z, other.z) == 0;
+    }
+
+    /**
+     * Get the vector hash code
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(x);
+        hash = 31 * hash + Double.hashCode(y);
+        return 31 * hash + Double.hashCode(z);
+    }
+
+    /**
+     * Get the vector as a string
+     *
+     * @return the vector string
+     */
+    @Override
+    public String toString() {
+        return "Vec3{x=" + x + ", y=" + y + ", z=" + z + "}";
+    }
+}
@@ -0,0 +1,23 @@
+package es.karmadev.gamelib.pos;
+
+/**
+ * Represents a visitor of voxel
+ * (block) coordinates. Visitors receive
+ * the primitive coordinates, so no position
+ * or block object needs to be created to
+ * iterate over an area
+ */
+@FunctionalInterface
+public interface VoxelVisitor {
+
+    /**
+     * Visit a voxel
+     *
+     * @param x the voxel X coordinate
+     * @param y the voxel Y coordinate
+     * @param z the voxel Z coordinate
+     * @return if the iteration should continue. Returning
+     * false stops the iteration
+     */
+    boolean visit(final int x, final int y, final int z);
+}
@@ -1,11 +1,30 @@
 package es.karmadev.gamelib.region;
 
 import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.BlockPos;
 import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.pos.VoxelVisitor;
+import es.karmadev.gamelib.region.edit.BlockEditor;
+import es.karmadev.gamelib.region.edit.PlaygroundSnapshot;
+import es.karmadev.gamelib.region.scan.BlockAccumulator;
+import es.karmadev.gamelib.region.scan.PlaygroundScanner;
+import es.karmadev.gamelib.sight.VisibilityMatrix;
+import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.util.BoundingBox;
 
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * The playground represents the
@@ -38,6 +57,16 @@ public interface Playground {
      */
     Position3D getCenter();
 
+    /**
+     * Get the center of the playground
+     * as a vector
+     *
+     * @return the center vector
+     */
+    default Vec3 getCenterVector() {
+        return getCenter().toVec3();
+    }
+
     /**
      * Get all the playground corner
      * positions
@@ -46,14 +75,241 @@ public interface Playground {
      */
     Collection<Position3D> getCorners();
 
+    /**
+     * Get the box which contains the
+     * whole playground area
+     *
+     * @return the playground bounding box
+     */
+    BoundingBox getBoundingBox();
+
     /**
      * Get all the blocks inside the
-     * playground area
+     * playground area. Please note this
+     * creates every block of the playground,
+     * use {@link #forEachBlock(VoxelVisitor)} or
+     * {@link #blockIterator()} for big areas
      *
      * @return the playground blocks
      */
     Collection<Block> getBlocks();
 
+    /**
+     * Visit the coordinates of all the blocks
+     * inside the playground area, without creating
+     * any block
+     *
+     * @param visitor the block visitor. The iteration
+     *                stops once the visitor returns false
+     * @return if all the blocks were visited
+     */
+    default boolean forEachBlock(final VoxelVisitor visitor) {
+        return forEachBlock(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, visitor);
+    }
+
+    /**
+     * Visit the coordinates of the blocks inside
+     * the playground area which are also inside the
+     * specified block box, without creating any block
+     *
+     * @param fromX the box min block X
+     * @param fromY the box min block Y
+     * @param fromZ the box min block Z
+     * @param toX the box max block X (inclusive)
+     * @param toY the box max block Y (inclusive)
+     * @param toZ the box max block Z (inclusive)
+     * @param visitor the block visitor. The iteration
+     *                stops once the visitor returns false
+     * @return if all the blocks were visited
+     */
+    boolean forEachBlock(final int fromX, final int fromY, final int fromZ,
+                         final int toX, final int toY, final int toZ,
+                         final VoxelVisitor visitor);
+
+    /**
+     * Get a lazy iterator over the blocks
+     * inside the playground area. Blocks are
+     * only created when requested
+     *
+     * @return the playground blocks iterator
+     */
+    Iterator<Block> blockIterator();
+
+    /**
+     * Scan the playground blocks outside
+     * the main thread. The playground chunks
+     * are captured on the main thread, and then
+     * processed in parallel
+     *
+     * @param supplier the result container supplier
+     * @param accumulator the block accumulator
+     * @param combiner the result containers combiner
+     * @return the scan result
+     * @param <A> the result type
+     */
+    default <A> CompletableFuture<A> scan(final Supplier<A> supplier, final BlockAccumulator<A> accumulator,
+                                          final BinaryOperator<A> combiner) {
+        return new PlaygroundScanner(this).scan(supplier, accumulator, combiner);
+    }
+
+    /**
+     * Count the playground blocks which
+     * match the filter, outside the main
+     * thread
+     *
+     * @param filter the block type filter
+     * @return the number of matching blocks
+     */
+    default CompletableFuture<Long> countBlocks(final Predicate<Material> filter) {
+        return new PlaygroundScanner(this).count(filter);
+    }
+
+    /**
+     * Find the position of the playground
+     * blocks which match the filter, outside
+     * the main thread
+     *
+     * @param filter the block type filter
+     * @return the matching block positions
+     */
+    default CompletableFuture<List<Position3D>> findBlocks(final Predicate<Material> filter) {
+        return new PlaygroundScanner(this).find(filter);
+    }
+
+    /**
+     * Get the number of blocks of each
+     * type inside the playground, outside
+     * the main thread
+     *
+     * @return the playground palette
+     */
+    default CompletableFuture<Map<Material, Long>> getPalette() {
+        return new PlaygroundScanner(this).palette();
+    }
+
+    /**
+     * Get if the playground contains
+     * the coordinates
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return if the coordinates are inside
+     * the playground
+     */
+    boolean contains(final double x, final double y, final double z);
+
+    /**
+     * Get if the playground contains the
+     * block. The result is consistent with the
+     * blocks visited by {@link #forEachBlock(VoxelVisitor)}
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return if the block is inside the
+     * playground
+     */
+    boolean containsBlock(final int x, final int y, final int z);
+
+    /**
+     * Test a batch of coordinates against the
+     * playground. The coordinates are provided as
+     * separate arrays, and the bit of each index is set
+     * on the output if the coordinates at that index
+     * are inside the playground
+     *
+     * @param xs the X coordinates
+     * @param ys the Y coordinates
+     * @param zs the Z coordinates
+     * @param n the amount of coordinates to test
+     * @param out the output bits. The first n bits
+     *            are overwritten
+     */
+    default void containsAll(final double[] xs, final double[] ys, final double[] zs, final int n, final BitSet out) {
+        out.clear(0, n);
+        for (int i = 0; i < n; i++) {
+            if (contains(xs[i], ys[i], zs[i])) out.set(i);
+        }
+    }
+
+    /**
+     * Get if the playground contains
+     * the location. Locations on other worlds
+     * are never contained
+     *
+     * @param location the location
+     * @return if the location is inside
+     * the playground
+     */
+    default boolean contains(final Location location) {
+        World world = location.getWorld();
+        if (world != null && !world.equals(getWorld())) return false;
+
+        return contains(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get if the playground contains
+     * the vector
+     *
+     * @param vector the vector
+     * @return if the vector is inside
+     * the playground
+     */
+    default boolean contains(final Vec3 vector) {
+        return contains(vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Get if the playground contains
+     * the block position
+     *
+     * @param position the block position
+     * @return if the block is inside
+     * the playground
+     */
+    default boolean containsBlock(final BlockPos position) {
+        return containsBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Get a bulk editor of the playground
+     * blocks, which edits the playground chunk
+     * by chunk under the default time budget
+     *
+     * @return the playground editor
+     */
+    default BlockEditor getEditor() {
+        return new BlockEditor(this);
+    }
+
+    /**
+     * Capture the blocks of the playground
+     * into a compact snapshot, which can later be
+     * used to restore the playground
+     *
+     * @return the playground snapshot
+     */
+    default CompletableFuture<PlaygroundSnapshot> snapshot() {
+        return PlaygroundSnapshot.capture(this);
+    }
+
+    /**
+     * Compute which entities of the playground
+     * can see each other, with the default line of
+     * sight and distance. The default view cone does
+     * not limit the direction, so the result matches
+     * {@link EngineEntity#canSee(EngineEntity)}. To
+     * apply a field of view, use {@link VisibilityMatrix#compute(Playground, es.karmadev.gamelib.sight.LineOfSight, es.karmadev.gamelib.sight.ViewCone)}
+     *
+     * @return the visibility matrix
+     */
+    default CompletableFuture<VisibilityMatrix> getVisibility() {
+        return VisibilityMatrix.compute(this);
+    }
+
     /**
      * Get all the entities inside the
      * playground area
@@ -84,6 +340,28 @@ public interface Playground {
         return distance(position.getX(), position.getY(), position.getZ());
     }
 
+    /**
+     * Get the distance between the
+     * vector and the center
+     *
+     * @param vector the vector
+     * @return the distance between
+     */
+    default double distance(final Vec3 vector) {
+        return distance(vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Get the distance between the
+     * block position and the center
+     *
+     * @param position the block position
+     * @return the distance between
+     */
+    default double distance(final BlockPos position) {
+        return distance(position.getX(), position.getY(), position.getZ());
+    }
+
     /**
      * Get the distance between the
      * block and the center
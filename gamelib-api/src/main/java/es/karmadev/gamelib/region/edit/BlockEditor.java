@@ -0,0 +1,124 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.region.Playground;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Bulk block editor of a playground. The
+ * edits are performed chunk by chunk on the main
+ * thread, spending at most the configured time
+ * budget on each tick. Blocks which already have
+ * the target state are not written
+ */
+public final class BlockEditor {
+
+    /**
+     * The default time budget per tick, in
+     * milliseconds
+     */
+    public final static long DEFAULT_BUDGET = 5;
+
+    private final Playground playground;
+    private final long budget;
+    private final boolean applyPhysics;
+
+    /**
+     * Initialize the block editor
+     *
+     * @param playground the playground to edit
+     */
+    public BlockEditor(final Playground playground) {
+        this(playground, DEFAULT_BUDGET, TimeUnit.MILLISECONDS, false);
+    }
+
+    /**
+     * Initialize the block editor
+     *
+     * @param playground the playground to edit
+     * @param budget the time budget per tick
+     * @param unit the time budget unit
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     */
+    public BlockEditor(final Playground playground, final long budget, final TimeUnit unit, final boolean applyPhysics) {
+        this.playground = playground;
+        this.budget = unit.toNanos(budget);
+        this.applyPhysics = applyPhysics;
+    }
+
+    /**
+     * Fill the playground with the
+     * block state
+     *
+     * @param state the block state
+     * @return the edit task
+     */
+    public EditTask fill(final BlockData state) {
+        return apply((x, y, z, current) -> state);
+    }
+
+    /**
+     * Fill the playground with the
+     * material
+     *
+     * @param material the material
+     * @return the edit task
+     */
+    public EditTask fill(final Material material) {
+        return fill(material.createBlockData());
+    }
+
+    /**
+     * Fill the playground with the
+     * palette states
+     *
+     * @param palette the palette states and
+     *                their weights
+     * @return the edit task
+     */
+    public EditTask fill(final Map<BlockData, Integer> palette) {
+        return apply(new BlockPalette(palette));
+    }
+
+    /**
+     * Replace the playground blocks which
+     * match the filter
+     *
+     * @param filter the block filter
+     * @param state the block state to replace
+     *              the matching blocks with
+     * @return the edit task
+     */
+    public EditTask replace(final Predicate<BlockData> filter, final BlockData state) {
+        return apply((x, y, z, current) -> filter.test(current) ? state : null);
+    }
+
+    /**
+     * Replace the playground blocks of
+     * the material
+     *
+     * @param material the material to replace
+     * @param state the block state to replace
+     *              the blocks with
+     * @return the edit task
+     */
+    public EditTask replace(final Material material, final BlockData state) {
+        return replace((current) -> current.getMaterial() == material, state);
+    }
+
+    /**
+     * Apply a pattern to all the
+     * playground blocks
+     *
+     * @param pattern the pattern to apply
+     * @return the edit task
+     */
+    public EditTask apply(final BlockPattern pattern) {
+        return new PatternTask(playground, pattern, budget, applyPhysics).start();
+    }
+}
@@ -0,0 +1,98 @@
+package es.karmadev.gamelib.region.edit;
+
+import org.bukkit.block.data.BlockData;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Represents a weighted palette of block
+ * states. Each block gets one of the palette
+ * states, chosen from its coordinates, so applying
+ * the same palette twice gives the same result
+ */
+public final class BlockPalette implements BlockPattern {
+
+    private final BlockData[] states;
+    private final long[] weights;
+    private final long totalWeight;
+    private final long seed;
+
+    /**
+     * Initialize the block palette
+     *
+     * @param weights the palette states and
+     *                their weights
+     */
+    public BlockPalette(final Map<BlockData, Integer> weights) {
+        this(weights, 0L);
+    }
+
+    /**
+     * Initialize the block palette
+     *
+     * @param weights the palette states and
+     *                their weights
+     * @param seed the palette seed
+     * @throws IllegalArgumentException if the palette
+     * has no state with a positive weight
+     */
+    public BlockPalette(final Map<BlockData, Integer> weights, final long seed) throws IllegalArgumentException {
+        BlockData[] states = new BlockData[weights.size()];
+        long[] cumulative = new long[weights.size()];
+
+        int index = 0;
+        long total = 0;
+        for (Map.Entry<BlockData, Integer> entry : weights.entrySet()) {
+            int weight = entry.getValue();
+            if (weight <= 0) continue;
+
+            total += weight;
+            states[index] = entry.getKey();
+            cumulative[index++] = total;
+        }
+
+        if (total == 0) throw new IllegalArgumentException("Cannot create a block palette without states");
+
+        this.states = Arrays.copyOf(states, index);
+        this.weights = Arrays.copyOf(cumulative, index);
+        this.totalWeight = total;
+        this.seed = seed;
+    }
+
+    /**
+     * Get the state the block should
+     * have
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @param current the current block state
+     * @return the block state
+     */
+    @Override
+    public BlockData get(final int x, final int y, final int z, final BlockData current) {
+        long hash = seed;
+        hash = mix(hash ^ x);
+        hash = mix(hash ^ y);
+        hash = mix(hash ^ z);
+
+        long roll = Long.remainderUnsigned(hash, totalWeight);
+        int index = Arrays.binarySearch(weights, roll + 1);
+        if (index < 0) index = -index - 1;
+
+        return states[index];
+    }
+
+    /**
+     * Mix the bits of a value
+     *
+     * @param value the value
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
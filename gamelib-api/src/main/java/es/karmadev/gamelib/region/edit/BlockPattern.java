@@ -0,0 +1,27 @@
+package es.karmadev.gamelib.region.edit;
+
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a pattern of block
+ * states, which decides the state each
+ * block of an edit should have
+ */
+@FunctionalInterface
+public interface BlockPattern {
+
+    /**
+     * Get the state the block should
+     * have
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @param current the current block state
+     * @return the block state, or null to
+     * keep the current state
+     */
+    @Nullable
+    BlockData get(final int x, final int y, final int z, final BlockData current);
+}
@@ -0,0 +1,324 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.region.Playground;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journal of the block changes of a
+ * playground. Only the original state of each
+ * block is recorded, the first time the block
+ * changes, so rolling the journal back costs as
+ * much as the amount of changed blocks.
+ * <p>
+ * Positions are indexed on an open addressing
+ * table keyed by the {@link BlockPos#pack(int, int, int) packed}
+ * block position. This class is not thread safe,
+ * changes must be recorded on the main thread
+ */
+public final class ChangeJournal {
+
+    private final static int INITIAL_CAPACITY = 64;
+
+    private final Playground playground;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY];
+
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private BlockData[] states = new BlockData[INITIAL_CAPACITY];
+    private int size;
+
+    private int generation;
+    private volatile RollbackTask rollback;
+    private int rollbackGeneration;
+
+    /**
+     * Initialize the change journal
+     *
+     * @param playground the journal playground
+     */
+    public ChangeJournal(final Playground playground) {
+        this.playground = playground;
+    }
+
+    /**
+     * Get the journal playground
+     *
+     * @return the playground
+     */
+    public Playground getPlayground() {
+        return playground;
+    }
+
+    /**
+     * Record the current state of the block,
+     * before it gets changed
+     *
+     * @param block the block
+     * @return if the block was recorded, false if it
+     * is outside the playground or was already recorded
+     */
+    public boolean record(final Block block) {
+        if (!block.getWorld().equals(playground.getWorld())) return false;
+        return record(block.getX(), block.getY(), block.getZ(), block.getBlockData());
+    }
+
+    /**
+     * Record the original state of a
+     * block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @param original the block original state
+     * @return if the block was recorded, false if it
+     * is outside the playground or was already recorded
+     */
+    public boolean record(final int x, final int y, final int z, final BlockData original) {
+        if (!playground.containsBlock(x, y, z)) return false;
+
+        long key = BlockPos.pack(x, y, z);
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (slots[slot] != 0) {
+            if (keys[slot] == key) {
+                if (!isRestored(slots[slot] - 1)) return false;
+
+                /*
+                The running rollback already restored the
+                block, so the change is recorded again on a
+                new entry, which outlives the rollback
+                 */
+                append(key, original);
+                slots[slot] = size;
+                return true;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        append(key, original);
+        keys[slot] = key;
+        slots[slot] = size;
+
+        if (size << 1 > keys.length) rehash(keys.length << 1);
+        return true;
+    }
+
+    /**
+     * Append an entry to the recorded
+     * blocks
+     *
+     * @param key the packed block position
+     * @param original the block original state
+     */
+    private void append(final long key, final BlockData original) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size << 1);
+            states = Arrays.copyOf(states, size << 1);
+        }
+
+        positions[size] = key;
+        states[size++] = original;
+    }
+
+    /**
+     * Get if the running rollback already
+     * restored an entry
+     *
+     * @param index the entry index
+     * @return if the entry is restored
+     */
+    private boolean isRestored(final int index) {
+        RollbackTask running = rollback;
+        return running != null && generation == rollbackGeneration && running.isRestored(index);
+    }
+
+    /**
+     * Get the recorded original state
+     * of a block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the block original state, or null if
+     * the block has not changed
+     */
+    @Nullable
+    public BlockData getOriginal(final int x, final int y, final int z) {
+        int index = indexOf(BlockPos.pack(x, y, z));
+        return index == -1 ? null : states[index];
+    }
+
+    /**
+     * Get the entry index of a
+     * block
+     *
+     * @param key the packed block position
+     * @return the entry index, or -1 if the
+     * block is not recorded
+     */
+    private int indexOf(final long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (slots[slot] != 0) {
+            if (keys[slot] == key) return slots[slot] - 1;
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Get the amount of recorded
+     * blocks
+     *
+     * @return the journal size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get if the journal has no
+     * recorded blocks
+     *
+     * @return if the journal is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the journal, keeping
+     * the blocks as they are
+     */
+    public void clear() {
+        keys = new long[INITIAL_CAPACITY];
+        slots = new int[INITIAL_CAPACITY];
+        positions = new long[INITIAL_CAPACITY];
+        states = new BlockData[INITIAL_CAPACITY];
+        size = 0;
+        generation++;
+    }
+
+    /**
+     * Roll the recorded blocks back to their
+     * original state, using the default time budget.
+     * The rolled back blocks are removed from the journal
+     * once the rollback finishes, and the journal keeps
+     * recording the changes made after the rollback
+     *
+     * @return the rollback task
+     */
+    public EditTask rollback() {
+        return rollback(BlockEditor.DEFAULT_BUDGET, TimeUnit.MILLISECONDS, false);
+    }
+
+    /**
+     * Roll the recorded blocks back to their
+     * original state. The blocks are restored in
+     * the reverse order they were recorded.
+     * <p>
+     * A block changed before the rollback reaches it
+     * keeps its original state, while a block changed
+     * after the rollback restored it is recorded again.
+     * Once the rollback finishes, the rolled back blocks
+     * are removed from the journal, which keeps the changes
+     * made after the rollback. If the rollback fails or is
+     * cancelled, the journal is kept as it is. If the
+     * journal is already being rolled back, the running
+     * rollback is returned
+     *
+     * @param budget the time budget per tick
+     * @param unit the time budget unit
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     * @return the rollback task
+     */
+    public EditTask rollback(final long budget, final TimeUnit unit, final boolean applyPhysics) {
+        RollbackTask running = rollback;
+        if (running != null && !running.isDone()) return running;
+
+        int count = size;
+        int recorded = generation;
+        RollbackTask task = new RollbackTask(playground.getWorld(), positions, states, count,
+                unit.toNanos(budget), applyPhysics);
+
+        rollback = task;
+        rollbackGeneration = recorded;
+        task.getFuture().whenComplete((changed, error) -> {
+            if (generation == recorded) compact(error == null ? count : 0);
+            if (rollback == task) rollback = null;
+        });
+
+        return task.start();
+    }
+
+    /**
+     * Remove the first recorded blocks from
+     * the journal, along with the entries of
+     * the blocks which were recorded again
+     *
+     * @param count the amount of blocks to remove
+     */
+    private void compact(final int count) {
+        int kept = 0;
+        for (int i = count; i < size; i++) {
+            long key = positions[i];
+            if (indexOf(key) != i) continue;
+
+            positions[kept] = key;
+            states[kept++] = states[i];
+        }
+
+        positions = Arrays.copyOf(positions, Math.max(INITIAL_CAPACITY, kept));
+        states = Arrays.copyOf(states, Math.max(INITIAL_CAPACITY, kept));
+        size = kept;
+        generation++;
+
+        rehash(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, kept)) << 2));
+    }
+
+    /**
+     * Resize the position table. Blocks
+     * recorded again are indexed to their
+     * latest entry
+     *
+     * @param capacity the new table capacity
+     */
+    private void rehash(final int capacity) {
+        keys = new long[capacity];
+        slots = new int[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            long key = positions[i];
+            int slot = mix(key) & mask;
+            while (slots[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Spread the bits of a packed
+     * position
+     *
+     * @param key the packed position
+     * @return the position hash
+     */
+    private static int mix(final long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,233 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.GameLib;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import es.karmadev.gamelib.sight.SightCache;
+import es.karmadev.gamelib.sight.SightSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a block edit which runs on
+ * the main thread across several ticks. On
+ * each tick the task works until its time budget
+ * is spent, and then continues on the next tick.
+ * <p>
+ * The chunks the task writes to are invalidated on
+ * the {@link SightCache sight cache} and the {@link SightSnapshot sight snapshot}
+ * once per tick, after the tick writes
+ */
+public abstract class EditTask {
+
+    private final long budget;
+    private final boolean applyPhysics;
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    private volatile long changed;
+    private volatile boolean cancelled;
+    private boolean paused;
+
+    private final Set<Long> touched = new HashSet<>();
+    private World touchedWorld;
+    private long lastTouched;
+
+    /**
+     * Initialize the edit task
+     *
+     * @param budget the time budget per tick, in nanoseconds
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     */
+    protected EditTask(final long budget, final boolean applyPhysics) {
+        this.budget = Math.max(1, budget);
+        this.applyPhysics = applyPhysics;
+    }
+
+    /**
+     * Get the task future. The future
+     * completes with the number of changed blocks
+     * once the task finishes
+     *
+     * @return the task future
+     */
+    public final CompletableFuture<Long> getFuture() {
+        return future;
+    }
+
+    /**
+     * Get the task progress
+     *
+     * @return the task progress, from
+     * 0 to 1
+     */
+    public abstract double getProgress();
+
+    /**
+     * Get the amount of blocks the task
+     * has changed so far
+     *
+     * @return the changed blocks
+     */
+    public final long getChanged() {
+        return changed;
+    }
+
+    /**
+     * Get if the task is done
+     *
+     * @return if the task is done
+     */
+    public final boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Cancel the task. The blocks which
+     * have already been changed are kept
+     */
+    public final void cancel() {
+        cancelled = true;
+        future.cancel(false);
+    }
+
+    /**
+     * Start the task. The task starts
+     * on the next tick
+     *
+     * @return the task
+     */
+    public final EditTask start() {
+        schedule();
+        return this;
+    }
+
+    /**
+     * Perform the next step of the task. Steps
+     * should be short, the time budget is checked
+     * between steps
+     *
+     * @return if the task has more steps to perform
+     */
+    protected abstract boolean step();
+
+    /**
+     * Stop working for the current tick once
+     * the current step finishes, even if the time
+     * budget is not spent yet. Used by tasks which
+     * are waiting for work done outside the main
+     * thread
+     */
+    protected final void pause() {
+        paused = true;
+    }
+
+    /**
+     * Write the block state, unless the
+     * block already has it
+     *
+     * @param block the block
+     * @param current the block current state
+     * @param target the block target state. If null,
+     *               the block is kept
+     * @return if the block was changed
+     */
+    protected final boolean write(final Block block, final BlockData current, final BlockData target) {
+        if (target == null || target.equals(current)) return false;
+
+        block.setBlockData(target, applyPhysics);
+        changed++;
+        touch(block);
+        return true;
+    }
+
+    /**
+     * Remember the chunk of a written
+     * block, to invalidate it once the
+     * tick writes are done
+     *
+     * @param block the written block
+     */
+    private void touch(final Block block) {
+        World world = block.getWorld();
+        long chunk = PlaygroundChunks.pack(block.getX() >> 4, block.getZ() >> 4);
+        if (world == touchedWorld && chunk == lastTouched && !touched.isEmpty()) return;
+
+        if (world != touchedWorld) {
+            invalidate();
+            touchedWorld = world;
+        }
+
+        lastTouched = chunk;
+        touched.add(chunk);
+    }
+
+    /**
+     * Invalidate the chunks written
+     * since the last invalidation
+     */
+    private void invalidate() {
+        if (touched.isEmpty()) return;
+
+        GameLib lib = GameLib.getInstance();
+        SightCache cache = lib == null ? null : lib.getSightCache();
+        SightSnapshot snapshot = lib == null ? null : lib.getSightSnapshot();
+        for (long chunk : touched) {
+            int chunkX = PlaygroundChunks.chunkX(chunk);
+            int chunkZ = PlaygroundChunks.chunkZ(chunk);
+
+            if (cache != null) cache.invalidate(touchedWorld, chunkX, chunkZ);
+            if (snapshot != null) snapshot.markDirty(touchedWorld, chunkX, chunkZ);
+        }
+
+        touched.clear();
+    }
+
+    /**
+     * Schedule the next run of the task
+     */
+    private void schedule() {
+        GameLib lib = GameLib.getInstance();
+        if (lib == null) {
+            future.completeExceptionally(new IllegalStateException("Cannot run an edit task without a GameLib instance"));
+            return;
+        }
+
+        lib.runSync(this::run);
+    }
+
+    /**
+     * Run the task steps until the
+     * time budget is spent
+     */
+    private void run() {
+        if (cancelled) return;
+
+        long deadline = System.nanoTime() + budget;
+        try {
+            do {
+                if (!step()) {
+                    invalidate();
+                    future.complete(changed);
+                    return;
+                }
+                if (paused) {
+                    paused = false;
+                    break;
+                }
+            } while (System.nanoTime() < deadline);
+
+            invalidate();
+        } catch (Throwable ex) {
+            invalidate();
+            future.completeExceptionally(ex);
+            return;
+        }
+
+        schedule();
+    }
+}
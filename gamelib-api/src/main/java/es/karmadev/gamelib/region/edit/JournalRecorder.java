@@ -0,0 +1,56 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.region.Playground;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Records the block changes of playgrounds
+ * into {@link ChangeJournal journals}. Blocks changed
+ * by players breaking or placing them, buckets,
+ * explosions, fire, liquid flow, pistons, entities,
+ * and blocks which fade, form or spread are recorded
+ */
+public interface JournalRecorder {
+
+    /**
+     * Start recording the block changes
+     * of a playground
+     *
+     * @param playground the playground
+     * @return the playground journal, or the current
+     * one if the playground was already being recorded
+     */
+    ChangeJournal start(final Playground playground);
+
+    /**
+     * Stop recording the block changes
+     * of a playground
+     *
+     * @param playground the playground
+     * @return the playground journal, or null if the
+     * playground was not being recorded
+     */
+    @Nullable
+    ChangeJournal stop(final Playground playground);
+
+    /**
+     * Get the journal of a playground
+     *
+     * @param playground the playground
+     * @return the playground journal, or null if the
+     * playground is not being recorded
+     */
+    @Nullable
+    ChangeJournal getJournal(final Playground playground);
+
+    /**
+     * Get if the playground is being
+     * recorded
+     *
+     * @param playground the playground
+     * @return if the playground is being recorded
+     */
+    default boolean isRecording(final Playground playground) {
+        return getJournal(playground) != null;
+    }
+}
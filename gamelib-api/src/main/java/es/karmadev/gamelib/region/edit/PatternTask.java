@@ -0,0 +1,113 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.BoundingBox;
+
+/**
+ * Edit task which applies a pattern over
+ * a playground. The work is split in chunk
+ * sections (16x16x16 blocks), ordered chunk
+ * by chunk
+ */
+final class PatternTask extends EditTask {
+
+    private final Playground playground;
+    private final BlockPattern pattern;
+
+    private long[] chunks;
+    private int minSection;
+    private int sections;
+    private int minY, maxY;
+
+    private volatile int unit;
+    private volatile int units = -1;
+
+    /**
+     * Initialize the pattern task
+     *
+     * @param playground the playground to edit
+     * @param pattern the pattern to apply
+     * @param budget the time budget per tick, in nanoseconds
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     */
+    PatternTask(final Playground playground, final BlockPattern pattern, final long budget, final boolean applyPhysics) {
+        super(budget, applyPhysics);
+        this.playground = playground;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Get the task progress
+     *
+     * @return the task progress, from
+     * 0 to 1
+     */
+    @Override
+    public double getProgress() {
+        int units = this.units;
+        if (units < 0) return 0;
+        if (units == 0) return 1;
+
+        return (double) unit / units;
+    }
+
+    /**
+     * Perform the next step of the task
+     *
+     * @return if the task has more steps to perform
+     */
+    @Override
+    protected boolean step() {
+        if (units < 0) {
+            plan();
+            return units > 0;
+        }
+
+        int current = unit;
+        long chunk = chunks[current / sections];
+        int section = minSection + current % sections;
+
+        int fromX = PlaygroundChunks.chunkX(chunk) << 4;
+        int fromZ = PlaygroundChunks.chunkZ(chunk) << 4;
+        int fromY = Math.max(section << 4, minY);
+        int toY = Math.min((section << 4) + 15, maxY);
+
+        World world = playground.getWorld();
+        playground.forEachBlock(fromX, fromY, fromZ, fromX + 15, toY, fromZ + 15, (x, y, z) -> {
+            Block block = world.getBlockAt(x, y, z);
+            BlockData state = block.getBlockData();
+
+            write(block, state, pattern.get(x, y, z, state));
+            return true;
+        });
+
+        unit = current + 1;
+        return unit < units;
+    }
+
+    /**
+     * Plan the chunks the task has
+     * to edit
+     */
+    private void plan() {
+        World world = playground.getWorld();
+        BoundingBox box = playground.getBoundingBox();
+
+        minY = PlaygroundChunks.minY(world, box);
+        maxY = PlaygroundChunks.maxY(world, box);
+        if (minY > maxY) {
+            units = 0;
+            return;
+        }
+
+        this.chunks = PlaygroundChunks.of(playground, minY, maxY);
+        this.minSection = minY >> 4;
+        this.sections = (maxY >> 4) - minSection + 1;
+        this.units = chunks.length * sections;
+    }
+}
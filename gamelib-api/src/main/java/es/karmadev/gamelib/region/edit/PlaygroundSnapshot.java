@@ -0,0 +1,265 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.BoundingBox;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact in-memory copy of the blocks
+ * of a playground. Each block is stored as an
+ * index into the snapshot palette, bit packed using
+ * the fewest bits able to hold the palette size.
+ * <p>
+ * Blocks are stored chunk by chunk, in the order
+ * the playground {@link Playground#forEachBlock(int, int, int, int, int, int, es.karmadev.gamelib.pos.VoxelVisitor) visits}
+ * them, so no coordinate is stored
+ */
+public final class PlaygroundSnapshot {
+
+    private final Playground playground;
+    private final BlockData[] palette;
+    private final int bits;
+    private final int perLong;
+    private final long mask;
+    private final long[] data;
+
+    private final long[] chunks;
+    private final int[] offsets;
+    private final int minY, maxY;
+
+    /**
+     * Initialize the playground snapshot
+     *
+     * @param playground the captured playground
+     * @param palette the snapshot palette
+     * @param indexes the palette index of each block
+     * @param chunks the captured chunks
+     * @param offsets the index of the first block of each
+     *                chunk, followed by the amount of blocks
+     * @param minY the captured min Y
+     * @param maxY the captured max Y
+     */
+    PlaygroundSnapshot(final Playground playground, final BlockData[] palette, final int[] indexes,
+                       final long[] chunks, final int[] offsets, final int minY, final int maxY) {
+        this.playground = playground;
+        this.palette = palette;
+        this.bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(palette.length - 1));
+        this.perLong = 64 / bits;
+        this.mask = (1L << bits) - 1;
+        this.chunks = chunks;
+        this.offsets = offsets;
+        this.minY = minY;
+        this.maxY = maxY;
+
+        int size = offsets[chunks.length];
+        this.data = new long[(size + perLong - 1) / perLong];
+        for (int i = 0; i < size; i++) {
+            data[i / perLong] |= (long) indexes[i] << (i % perLong) * bits;
+        }
+    }
+
+    /**
+     * Capture the blocks of the playground. The
+     * chunks are captured on the main thread, and
+     * then encoded outside of it
+     *
+     * @param playground the playground to capture
+     * @return the playground snapshot
+     */
+    public static CompletableFuture<PlaygroundSnapshot> capture(final Playground playground) {
+        return PlaygroundChunks.capture(() -> {
+            World world = playground.getWorld();
+            BoundingBox box = playground.getBoundingBox();
+
+            int minY = PlaygroundChunks.minY(world, box);
+            int maxY = PlaygroundChunks.maxY(world, box);
+
+            long[] chunks = PlaygroundChunks.of(playground, minY, maxY);
+            ChunkSnapshot[] snapshots = PlaygroundChunks.snapshots(world, chunks);
+            return () -> encode(playground, chunks, snapshots, minY, maxY);
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get the captured playground
+     *
+     * @return the playground
+     */
+    public Playground getPlayground() {
+        return playground;
+    }
+
+    /**
+     * Get the snapshot palette, which
+     * are all the different block states
+     * of the snapshot
+     *
+     * @return the snapshot palette
+     */
+    public List<BlockData> getPalette() {
+        return Collections.unmodifiableList(Arrays.asList(palette));
+    }
+
+    /**
+     * Get the amount of captured
+     * blocks
+     *
+     * @return the snapshot size
+     */
+    public int size() {
+        return offsets[chunks.length];
+    }
+
+    /**
+     * Get the amount of bits used
+     * to store each block
+     *
+     * @return the bits per block
+     */
+    public int getBitsPerBlock() {
+        return bits;
+    }
+
+    /**
+     * Restore the playground to the snapshot, using
+     * the default time budget. Only the blocks which
+     * differ from the snapshot are written
+     *
+     * @return the restore task
+     */
+    public EditTask restore() {
+        return restore(BlockEditor.DEFAULT_BUDGET, TimeUnit.MILLISECONDS, false);
+    }
+
+    /**
+     * Restore the playground to the snapshot. The
+     * live chunks are compared against the snapshot
+     * outside the main thread, so the main thread only
+     * writes the blocks which differ
+     *
+     * @param budget the time budget per tick
+     * @param unit the time budget unit
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     * @return the restore task
+     */
+    public EditTask restore(final long budget, final TimeUnit unit, final boolean applyPhysics) {
+        return new RestoreTask(this, unit.toNanos(budget), applyPhysics).start();
+    }
+
+    /**
+     * Get the palette index of a
+     * block
+     *
+     * @param index the block index
+     * @return the block palette index
+     */
+    int get(final int index) {
+        return (int) (data[index / perLong] >>> (index % perLong) * bits & mask);
+    }
+
+    /**
+     * Get the block state of a
+     * palette index
+     *
+     * @param index the palette index
+     * @return the block state
+     */
+    BlockData state(final int index) {
+        return palette[index];
+    }
+
+    /**
+     * Get the captured chunks, packed
+     * as the chunk X on the upper bits and
+     * the chunk Z on the lower bits
+     *
+     * @return the captured chunks
+     */
+    long[] chunks() {
+        return chunks;
+    }
+
+    /**
+     * Get the index of the first block
+     * of the chunk
+     *
+     * @param chunk the chunk index
+     * @return the chunk offset
+     */
+    int offset(final int chunk) {
+        return offsets[chunk];
+    }
+
+    /**
+     * Get the captured min Y
+     *
+     * @return the min Y
+     */
+    int minY() {
+        return minY;
+    }
+
+    /**
+     * Get the captured max Y
+     *
+     * @return the max Y
+     */
+    int maxY() {
+        return maxY;
+    }
+
+    /**
+     * Encode the captured chunks into
+     * a snapshot
+     *
+     * @param playground the playground
+     * @param chunks the captured chunks
+     * @param snapshots the chunk snapshots
+     * @param minY the captured min Y
+     * @param maxY the captured max Y
+     * @return the playground snapshot
+     */
+    private static PlaygroundSnapshot encode(final Playground playground, final long[] chunks, final ChunkSnapshot[] snapshots,
+                                             final int minY, final int maxY) {
+        Map<BlockData, Integer> indexes = new HashMap<>();
+        List<BlockData> palette = new ArrayList<>();
+        int[] offsets = new int[chunks.length + 1];
+        int[][] blocks = {new int[4096]};
+        int[] size = {0};
+
+        for (int i = 0; i < chunks.length; i++) {
+            ChunkSnapshot snapshot = snapshots[i];
+            int fromX = PlaygroundChunks.chunkX(chunks[i]) << 4;
+            int fromZ = PlaygroundChunks.chunkZ(chunks[i]) << 4;
+
+            offsets[i] = size[0];
+            playground.forEachBlock(fromX, minY, fromZ, fromX + 15, maxY, fromZ + 15, (x, y, z) -> {
+                BlockData state = snapshot.getBlockData(x & 15, y, z & 15);
+                Integer index = indexes.get(state);
+                if (index == null) {
+                    index = palette.size();
+                    indexes.put(state, index);
+                    palette.add(state);
+                }
+
+                if (size[0] == blocks[0].length) blocks[0] = Arrays.copyOf(blocks[0], size[0] << 1);
+                blocks[0][size[0]++] = index;
+                return true;
+            });
+
+            snapshots[i] = null;
+        }
+
+        offsets[chunks.length] = size[0];
+        return new PlaygroundSnapshot(playground, palette.toArray(new BlockData[0]), blocks[0], chunks, offsets, minY, maxY);
+    }
+}
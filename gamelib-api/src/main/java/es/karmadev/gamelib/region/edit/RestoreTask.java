@@ -0,0 +1,197 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Edit task which restores a playground to
+ * a {@link PlaygroundSnapshot snapshot}. Each chunk
+ * is captured on the main thread and compared against
+ * the snapshot on the common pool, so the main thread
+ * only writes the blocks which differ
+ */
+final class RestoreTask extends EditTask {
+
+    private final static int MAX_PENDING = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+
+    private final PlaygroundSnapshot snapshot;
+    private final Queue<Difference> differences = new ConcurrentLinkedQueue<>();
+
+    private int captured;
+    private int pending;
+    private volatile int restored;
+
+    private Difference current;
+    private int written;
+
+    /**
+     * Initialize the restore task
+     *
+     * @param snapshot the snapshot to restore
+     * @param budget the time budget per tick, in nanoseconds
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     */
+    RestoreTask(final PlaygroundSnapshot snapshot, final long budget, final boolean applyPhysics) {
+        super(budget, applyPhysics);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Get the task progress
+     *
+     * @return the task progress, from
+     * 0 to 1
+     */
+    @Override
+    public double getProgress() {
+        int chunks = snapshot.chunks().length;
+        if (chunks == 0) return 1;
+
+        return (double) restored / chunks;
+    }
+
+    /**
+     * Perform the next step of the task
+     *
+     * @return if the task has more steps to perform
+     */
+    @Override
+    protected boolean step() {
+        if (current == null) {
+            current = differences.poll();
+            written = 0;
+
+            if (current != null) {
+                pending--;
+                Throwable error = current.error;
+                if (error instanceof RuntimeException) throw (RuntimeException) error;
+                if (error instanceof Error) throw (Error) error;
+                if (error != null) throw new CompletionException(error);
+            }
+        }
+
+        if (current != null) {
+            if (written < current.size) {
+                long position = current.positions[written];
+                BlockData target = snapshot.state(current.states[written++]);
+
+                Block block = snapshot.getPlayground().getWorld().getBlockAt(BlockPos.unpackX(position),
+                        BlockPos.unpackY(position), BlockPos.unpackZ(position));
+                write(block, block.getBlockData(), target);
+            }
+            if (written == current.size) {
+                current = null;
+                restored++;
+            }
+
+            return true;
+        }
+
+        int chunks = snapshot.chunks().length;
+        if (captured < chunks && pending < MAX_PENDING) {
+            capture(captured++);
+            return true;
+        }
+
+        if (pending == 0 && captured == chunks) return false;
+
+        pause(); //Wait for the pending comparisons
+        return true;
+    }
+
+    /**
+     * Capture the chunk and compare it
+     * against the snapshot
+     *
+     * @param chunk the chunk index
+     */
+    private void capture(final int chunk) {
+        long packed = snapshot.chunks()[chunk];
+        int chunkX = PlaygroundChunks.chunkX(packed);
+        int chunkZ = PlaygroundChunks.chunkZ(packed);
+
+        World world = snapshot.getPlayground().getWorld();
+        ChunkSnapshot live = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+
+        pending++;
+        CompletableFuture.runAsync(() -> {
+            Difference difference;
+            try {
+                difference = compare(live, chunk, chunkX << 4, chunkZ << 4);
+            } catch (Throwable ex) {
+                difference = new Difference();
+                difference.error = ex;
+            }
+
+            differences.add(difference);
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compare the live chunk against
+     * the snapshot
+     *
+     * @param live the live chunk
+     * @param chunk the chunk index
+     * @param fromX the chunk min block X
+     * @param fromZ the chunk min block Z
+     * @return the chunk differences
+     */
+    private Difference compare(final ChunkSnapshot live, final int chunk, final int fromX, final int fromZ) {
+        Playground playground = snapshot.getPlayground();
+        Difference difference = new Difference();
+        int[] index = {snapshot.offset(chunk)};
+
+        playground.forEachBlock(fromX, snapshot.minY(), fromZ, fromX + 15, snapshot.maxY(), fromZ + 15, (x, y, z) -> {
+            int state = snapshot.get(index[0]++);
+            if (!snapshot.state(state).equals(live.getBlockData(x & 15, y, z & 15))) {
+                difference.add(BlockPos.pack(x, y, z), state);
+            }
+
+            return true;
+        });
+
+        return difference;
+    }
+
+    /**
+     * Represents the blocks of a chunk
+     * which differ from the snapshot
+     */
+    private final static class Difference {
+
+        private long[] positions = new long[16];
+        private int[] states = new int[16];
+        private int size;
+        private Throwable error;
+
+        /**
+         * Add a differing block
+         *
+         * @param position the packed block position
+         * @param state the snapshot palette index
+         */
+        private void add(final long position, final int state) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size << 1);
+                states = Arrays.copyOf(states, size << 1);
+            }
+
+            positions[size] = position;
+            states[size++] = state;
+        }
+    }
+}
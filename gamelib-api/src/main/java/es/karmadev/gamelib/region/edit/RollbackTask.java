@@ -0,0 +1,83 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.pos.BlockPos;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * Edit task which rolls a {@link ChangeJournal journal}
+ * back, restoring the recorded blocks in the reverse
+ * order they were recorded
+ */
+final class RollbackTask extends EditTask {
+
+    private final World world;
+    private final long[] positions;
+    private final BlockData[] states;
+    private final int size;
+
+    private volatile int remaining;
+
+    /**
+     * Initialize the rollback task
+     *
+     * @param world the journal world
+     * @param positions the recorded packed positions
+     * @param states the recorded original states
+     * @param size the amount of recorded blocks
+     * @param budget the time budget per tick, in nanoseconds
+     * @param applyPhysics if the block changes should
+     *                     apply physics
+     */
+    RollbackTask(final World world, final long[] positions, final BlockData[] states, final int size,
+                 final long budget, final boolean applyPhysics) {
+        super(budget, applyPhysics);
+        this.world = world;
+        this.positions = positions;
+        this.states = states;
+        this.size = size;
+        this.remaining = size;
+    }
+
+    /**
+     * Get the task progress
+     *
+     * @return the task progress, from
+     * 0 to 1
+     */
+    @Override
+    public double getProgress() {
+        if (size == 0) return 1;
+        return (double) (size - remaining) / size;
+    }
+
+    /**
+     * Get if the task already restored
+     * a recorded block
+     *
+     * @param index the recorded block index
+     * @return if the block is restored
+     */
+    boolean isRestored(final int index) {
+        return index >= remaining && index < size;
+    }
+
+    /**
+     * Perform the next step of the task
+     *
+     * @return if the task has more steps to perform
+     */
+    @Override
+    protected boolean step() {
+        if (remaining == 0) return false;
+
+        int index = --remaining;
+        long position = positions[index];
+
+        Block block = world.getBlockAt(BlockPos.unpackX(position), BlockPos.unpackY(position), BlockPos.unpackZ(position));
+        write(block, block.getBlockData(), states[index]);
+
+        return remaining > 0;
+    }
+}
@@ -0,0 +1,415 @@
+package es.karmadev.gamelib.region.index;
+
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.shape.SphereGround;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Registry of playgrounds, indexed
+ * per world on an R-tree over each playground
+ * bounding box. Queries first find the candidate
+ * playgrounds on the tree, and then test them
+ * against the exact playground shape, using
+ * {@link Playground#contains(double, double, double)}
+ * for point queries
+ */
+public final class PlaygroundRegistry {
+
+    private final Map<UUID, Index> worlds = new ConcurrentHashMap<>();
+
+    /**
+     * Register a playground
+     *
+     * @param playground the playground to register
+     * @return if the playground was registered, false
+     * if it was already registered
+     */
+    public boolean register(final Playground playground) {
+        World world = playground.getWorld();
+        if (world == null) return false;
+
+        Index index = worlds.computeIfAbsent(world.getUID(), (id) -> new Index());
+        index.lock.writeLock().lock();
+        try {
+            return index.tree.insert(playground);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Unregister a playground, even
+     * if it's still held
+     *
+     * @param playground the playground to unregister
+     * @return if the playground was unregistered
+     */
+    public boolean unregister(final Playground playground) {
+        World world = playground.getWorld();
+        if (world == null) return false;
+
+        Index index = worlds.get(world.getUID());
+        if (index == null) return false;
+
+        index.lock.writeLock().lock();
+        try {
+            index.holds.remove(playground);
+            return index.tree.remove(playground);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hold a playground registered. The
+     * playground is registered on its first
+     * hold, and stays registered until it is
+     * released as many times as it was held
+     *
+     * @param playground the playground to hold
+     * @return if the playground was registered
+     * by this hold
+     */
+    public boolean acquire(final Playground playground) {
+        World world = playground.getWorld();
+        if (world == null) return false;
+
+        Index index = worlds.computeIfAbsent(world.getUID(), (id) -> new Index());
+        index.lock.writeLock().lock();
+        try {
+            index.holds.merge(playground, 1, Integer::sum);
+            return index.tree.insert(playground);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Release a hold of a playground. The
+     * playground is unregistered once its last
+     * hold is released
+     *
+     * @param playground the playground to release
+     * @return if the playground was unregistered
+     * by this release
+     */
+    public boolean release(final Playground playground) {
+        World world = playground.getWorld();
+        if (world == null) return false;
+
+        Index index = worlds.get(world.getUID());
+        if (index == null) return false;
+
+        index.lock.writeLock().lock();
+        try {
+            Integer holds = index.holds.get(playground);
+            if (holds == null) return false;
+            if (holds > 1) {
+                index.holds.put(playground, holds - 1);
+                return false;
+            }
+
+            index.holds.remove(playground);
+            return index.tree.remove(playground);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get if the playground is registered
+     *
+     * @param playground the playground
+     * @return if the playground is registered
+     */
+    public boolean isRegistered(final Playground playground) {
+        World world = playground.getWorld();
+        if (world == null) return false;
+
+        Index index = worlds.get(world.getUID());
+        if (index == null) return false;
+
+        index.lock.readLock().lock();
+        try {
+            return index.tree.contains(playground);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the amount of registered
+     * playgrounds
+     *
+     * @return the registered playgrounds
+     */
+    public int size() {
+        int size = 0;
+        for (Index index : worlds.values()) {
+            index.lock.readLock().lock();
+            try {
+                size += index.tree.size();
+            } finally {
+                index.lock.readLock().unlock();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Unregister all the playgrounds
+     * of a world
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        if (world == null) return;
+        worlds.remove(world.getUID());
+    }
+
+    /**
+     * Visit all the playgrounds which
+     * contain the coordinates
+     *
+     * @param world the world
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @param consumer the playground consumer
+     */
+    public void forEachAt(final World world, final double x, final double y, final double z,
+                          final Consumer<Playground> consumer) {
+        search(world, x, y, z, x, y, z, (playground) -> {
+            if (playground.contains(x, y, z)) consumer.accept(playground);
+        });
+    }
+
+    /**
+     * Visit all the playgrounds which
+     * contain the block
+     *
+     * @param world the world
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @param consumer the playground consumer
+     */
+    public void forEachAtBlock(final World world, final int x, final int y, final int z,
+                               final Consumer<Playground> consumer) {
+        search(world, x, y, z, x + 1, y + 1, z + 1, (playground) -> {
+            if (playground.containsBlock(x, y, z)) consumer.accept(playground);
+        });
+    }
+
+    /**
+     * Get all the playgrounds which
+     * contain the coordinates
+     *
+     * @param world the world
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the playgrounds at the coordinates
+     */
+    public List<Playground> getPlaygroundsAt(final World world, final double x, final double y, final double z) {
+        List<Playground> playgrounds = new ArrayList<>();
+        forEachAt(world, x, y, z, playgrounds::add);
+
+        return playgrounds;
+    }
+
+    /**
+     * Get all the playgrounds which
+     * contain the position
+     *
+     * @param position the position
+     * @return the playgrounds at the position
+     */
+    public List<Playground> getPlaygroundsAt(final Position3D position) {
+        return getPlaygroundsAt(position.getWorld(), position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Visit all the playgrounds which
+     * intersect the box
+     *
+     * @param world the world
+     * @param box the box
+     * @param consumer the playground consumer
+     */
+    public void forEachIn(final World world, final BoundingBox box, final Consumer<Playground> consumer) {
+        double minX = box.getMinX();
+        double minY = box.getMinY();
+        double minZ = box.getMinZ();
+        double maxX = box.getMaxX();
+        double maxY = box.getMaxY();
+        double maxZ = box.getMaxZ();
+
+        search(world, minX, minY, minZ, maxX, maxY, maxZ, (playground) -> {
+            if (intersectsBox(playground, minX, minY, minZ, maxX, maxY, maxZ)) consumer.accept(playground);
+        });
+    }
+
+    /**
+     * Get all the playgrounds which
+     * intersect the box
+     *
+     * @param world the world
+     * @param box the box
+     * @return the playgrounds in the box
+     */
+    public List<Playground> getPlaygroundsIn(final World world, final BoundingBox box) {
+        List<Playground> playgrounds = new ArrayList<>();
+        forEachIn(world, box, playgrounds::add);
+
+        return playgrounds;
+    }
+
+    /**
+     * Visit all the playgrounds which
+     * intersect the sphere
+     *
+     * @param world the world
+     * @param x the sphere center X
+     * @param y the sphere center Y
+     * @param z the sphere center Z
+     * @param radius the sphere radius
+     * @param consumer the playground consumer
+     */
+    public void forEachNear(final World world, final double x, final double y, final double z, final double radius,
+                            final Consumer<Playground> consumer) {
+        search(world, x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, (playground) -> {
+            if (intersectsSphere(playground, x, y, z, radius)) consumer.accept(playground);
+        });
+    }
+
+    /**
+     * Get all the playgrounds which
+     * intersect the sphere
+     *
+     * @param world the world
+     * @param x the sphere center X
+     * @param y the sphere center Y
+     * @param z the sphere center Z
+     * @param radius the sphere radius
+     * @return the playgrounds near the coordinates
+     */
+    public List<Playground> getPlaygroundsNear(final World world, final double x, final double y, final double z,
+                                               final double radius) {
+        List<Playground> playgrounds = new ArrayList<>();
+        forEachNear(world, x, y, z, radius, playgrounds::add);
+
+        return playgrounds;
+    }
+
+    /**
+     * Visit the playgrounds whose bounding
+     * box overlaps the box
+     *
+     * @param world the world
+     * @param consumer the playground consumer
+     */
+    private void search(final World world, final double minX, final double minY, final double minZ,
+                        final double maxX, final double maxY, final double maxZ,
+                        final Consumer<Playground> consumer) {
+        if (world == null) return;
+
+        Index index = worlds.get(world.getUID());
+        if (index == null) return;
+
+        List<Playground> candidates = new ArrayList<>();
+        index.lock.readLock().lock();
+        try {
+            index.tree.search(minX, minY, minZ, maxX, maxY, maxZ, candidates::add);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+
+        /*
+        The candidates are tested outside the lock,
+        so the consumer is free to modify the registry
+         */
+        candidates.forEach(consumer);
+    }
+
+    /**
+     * Get if the playground intersects the
+     * box. The box is known to overlap the
+     * playground bounding box
+     *
+     * @param playground the playground
+     * @return if the playground intersects the box
+     */
+    private static boolean intersectsBox(final Playground playground, final double minX, final double minY, final double minZ,
+                                         final double maxX, final double maxY, final double maxZ) {
+        if (playground instanceof SphereGround) {
+            SphereGround sphere = (SphereGround) playground;
+            double cX = sphere.getX();
+            double cY = sphere.getY();
+            double cZ = sphere.getZ();
+
+            double dX = cX - Math.max(minX, Math.min(cX, maxX));
+            double dY = cY - Math.max(minY, Math.min(cY, maxY));
+            double dZ = cZ - Math.max(minZ, Math.min(cZ, maxZ));
+
+            return dX * dX + dY * dY + dZ * dZ <= sphere.getRadius() * sphere.getRadius();
+        }
+
+        return true;
+    }
+
+    /**
+     * Get if the playground intersects the
+     * sphere
+     *
+     * @param playground the playground
+     * @param x the sphere center X
+     * @param y the sphere center Y
+     * @param z the sphere center Z
+     * @param radius the sphere radius
+     * @return if the playground intersects the sphere
+     */
+    private static boolean intersectsSphere(final Playground playground, final double x, final double y, final double z,
+                                            final double radius) {
+        if (playground instanceof SphereGround) {
+            SphereGround sphere = (SphereGround) playground;
+            double dX = x - sphere.getX();
+            double dY = y - sphere.getY();
+            double dZ = z - sphere.getZ();
+            double reach = radius + sphere.getRadius();
+
+            return dX * dX + dY * dY + dZ * dZ <= reach * reach;
+        }
+
+        BoundingBox box = playground.getBoundingBox();
+        double dX = x - Math.max(box.getMinX(), Math.min(x, box.getMaxX()));
+        double dY = y - Math.max(box.getMinY(), Math.min(y, box.getMaxY()));
+        double dZ = z - Math.max(box.getMinZ(), Math.min(z, box.getMaxZ()));
+
+        return dX * dX + dY * dY + dZ * dZ <= radius * radius;
+    }
+
+    /**
+     * Represents the index of
+     * a world
+     */
+    private final static class Index {
+
+        private final PlaygroundTree tree = new PlaygroundTree();
+        private final Map<Playground, Integer> holds = new IdentityHashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+}
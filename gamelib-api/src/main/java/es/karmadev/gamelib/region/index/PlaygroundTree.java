@@ -0,0 +1,451 @@
+package es.karmadev.gamelib.region.index;
+
+import es.karmadev.gamelib.region.Playground;
+import org.bukkit.util.BoundingBox;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * R-tree of the playgrounds of a single
+ * world. Each playground is indexed by its
+ * {@link Playground#getBoundingBox() bounding box},
+ * and overflowing nodes are split with the
+ * quadratic split algorithm.
+ * <p>
+ * This class is not thread safe, the
+ * {@link PlaygroundRegistry registry} guards
+ * its access
+ */
+final class PlaygroundTree {
+
+    private final static int MAX_ENTRIES = 8;
+    private final static int MIN_ENTRIES = 3;
+
+    private final Map<Playground, Entry> entries = new IdentityHashMap<>();
+    private Node root = new Node(true);
+
+    /**
+     * Get the amount of indexed
+     * playgrounds
+     *
+     * @return the tree size
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get if the playground is indexed
+     *
+     * @param playground the playground
+     * @return if the playground is indexed
+     */
+    boolean contains(final Playground playground) {
+        return entries.containsKey(playground);
+    }
+
+    /**
+     * Insert a playground into the tree
+     *
+     * @param playground the playground
+     * @return if the playground was inserted, false
+     * if it was already indexed
+     */
+    boolean insert(final Playground playground) {
+        if (entries.containsKey(playground)) return false;
+
+        BoundingBox box = playground.getBoundingBox();
+        Entry entry = new Entry(playground, box);
+        entries.put(playground, entry);
+
+        insert(entry);
+        return true;
+    }
+
+    /**
+     * Remove a playground from the tree
+     *
+     * @param playground the playground
+     * @return if the playground was removed
+     */
+    boolean remove(final Playground playground) {
+        Entry entry = entries.remove(playground);
+        if (entry == null) return false;
+
+        Node leaf = entry.parent;
+        leaf.children.remove(entry);
+        entry.parent = null;
+
+        condense(leaf);
+        return true;
+    }
+
+    /**
+     * Visit all the playgrounds whose bounding
+     * box overlaps the specified box (inclusive)
+     *
+     * @param minX the box min X
+     * @param minY the box min Y
+     * @param minZ the box min Z
+     * @param maxX the box max X
+     * @param maxY the box max Y
+     * @param maxZ the box max Z
+     * @param consumer the playground consumer
+     */
+    void search(final double minX, final double minY, final double minZ,
+                final double maxX, final double maxY, final double maxZ,
+                final Consumer<Playground> consumer) {
+        if (root.children.isEmpty()) return;
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            for (Bounds child : node.children) {
+                if (!child.overlaps(minX, minY, minZ, maxX, maxY, maxZ)) continue;
+
+                if (node.leaf) {
+                    consumer.accept(((Entry) child).playground);
+                } else {
+                    stack.push((Node) child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert an entry into the tree
+     *
+     * @param entry the entry
+     */
+    private void insert(final Entry entry) {
+        Node node = root;
+        while (!node.leaf) {
+            node = chooseSubtree(node, entry);
+        }
+
+        node.add(entry);
+        adjust(node);
+    }
+
+    /**
+     * Choose the child of the node which
+     * requires the least enlargement to
+     * hold the bounds
+     *
+     * @param node the node
+     * @param bounds the bounds to hold
+     * @return the chosen child
+     */
+    private static Node chooseSubtree(final Node node, final Bounds bounds) {
+        Node best = null;
+        double bestEnlargement = Double.POSITIVE_INFINITY;
+        double bestVolume = Double.POSITIVE_INFINITY;
+
+        for (Bounds child : node.children) {
+            double volume = child.volume();
+            double enlargement = child.unionVolume(bounds) - volume;
+
+            if (enlargement < bestEnlargement || (enlargement == bestEnlargement && volume < bestVolume)) {
+                best = (Node) child;
+                bestEnlargement = enlargement;
+                bestVolume = volume;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Walk from the node up to the root,
+     * splitting the overflowing nodes and
+     * refreshing the bounds of the rest
+     *
+     * @param node the modified node
+     */
+    private void adjust(Node node) {
+        while (node != null) {
+            if (node.children.size() > MAX_ENTRIES) {
+                Node sibling = split(node);
+                Node parent = node.parent;
+
+                if (parent == null) {
+                    parent = new Node(false);
+                    parent.add(node);
+                    root = parent;
+                }
+
+                parent.add(sibling);
+            } else {
+                node.recalculate();
+            }
+
+            node = node.parent;
+        }
+    }
+
+    /**
+     * Split an overflowing node using the
+     * quadratic split algorithm. The node keeps
+     * one of the groups, and the other group is
+     * moved into the returned sibling
+     *
+     * @param node the node to split
+     * @return the new sibling node
+     */
+    private static Node split(final Node node) {
+        List<Bounds> remaining = new ArrayList<>(node.children);
+        node.children.clear();
+
+        Node sibling = new Node(node.leaf);
+
+        int seedA = 0;
+        int seedB = 1;
+        double worst = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < remaining.size(); i++) {
+            Bounds a = remaining.get(i);
+            for (int j = i + 1; j < remaining.size(); j++) {
+                Bounds b = remaining.get(j);
+
+                double waste = a.unionVolume(b) - a.volume() - b.volume();
+                if (waste > worst) {
+                    worst = waste;
+                    seedA = i;
+                    seedB = j;
+                }
+            }
+        }
+
+        Bounds first = remaining.get(seedA);
+        Bounds second = remaining.get(seedB);
+        remaining.remove(seedB);
+        remaining.remove(seedA);
+
+        node.add(first);
+        sibling.add(second);
+
+        while (!remaining.isEmpty()) {
+            if (node.children.size() + remaining.size() <= MIN_ENTRIES) {
+                remaining.forEach(node::add);
+                break;
+            }
+            if (sibling.children.size() + remaining.size() <= MIN_ENTRIES) {
+                remaining.forEach(sibling::add);
+                break;
+            }
+
+            int next = 0;
+            double nodeGrowth = 0;
+            double siblingGrowth = 0;
+            double preference = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < remaining.size(); i++) {
+                Bounds candidate = remaining.get(i);
+                double growA = node.unionVolume(candidate) - node.volume();
+                double growB = sibling.unionVolume(candidate) - sibling.volume();
+
+                double difference = Math.abs(growA - growB);
+                if (difference > preference) {
+                    preference = difference;
+                    next = i;
+                    nodeGrowth = growA;
+                    siblingGrowth = growB;
+                }
+            }
+
+            Bounds candidate = remaining.remove(next);
+            if (nodeGrowth < siblingGrowth) {
+                node.add(candidate);
+            } else if (siblingGrowth < nodeGrowth) {
+                sibling.add(candidate);
+            } else if (node.volume() != sibling.volume()) {
+                (node.volume() < sibling.volume() ? node : sibling).add(candidate);
+            } else {
+                (node.children.size() <= sibling.children.size() ? node : sibling).add(candidate);
+            }
+        }
+
+        return sibling;
+    }
+
+    /**
+     * Condense the tree after a removal. Underflowing
+     * nodes are removed, and their entries inserted
+     * again
+     *
+     * @param leaf the leaf an entry was removed from
+     */
+    private void condense(final Node leaf) {
+        List<Entry> orphans = new ArrayList<>();
+
+        Node node = leaf;
+        while (node.parent != null) {
+            Node parent = node.parent;
+            if (node.children.size() < MIN_ENTRIES) {
+                parent.children.remove(node);
+                node.parent = null;
+                collect(node, orphans);
+            } else {
+                node.recalculate();
+            }
+
+            node = parent;
+        }
+
+        root.recalculate();
+        while (!root.leaf && root.children.size() == 1) {
+            root = (Node) root.children.get(0);
+            root.parent = null;
+        }
+        if (!root.leaf && root.children.isEmpty()) {
+            root = new Node(true);
+        }
+
+        for (Entry orphan : orphans) {
+            insert(orphan);
+        }
+    }
+
+    /**
+     * Collect all the entries of a
+     * subtree
+     *
+     * @param node the subtree root
+     * @param into the collection to add the entries into
+     */
+    private static void collect(final Node node, final List<Entry> into) {
+        for (Bounds child : node.children) {
+            if (node.leaf) {
+                into.add((Entry) child);
+            } else {
+                collect((Node) child, into);
+            }
+        }
+    }
+
+    /**
+     * Represents an axis aligned box
+     * of the tree
+     */
+    private static abstract class Bounds {
+
+        double minX, minY, minZ, maxX, maxY, maxZ;
+        Node parent;
+
+        /**
+         * Get the box volume
+         *
+         * @return the volume
+         */
+        final double volume() {
+            return (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+        }
+
+        /**
+         * Get the volume of the union
+         * between the boxes
+         *
+         * @param other the other box
+         * @return the union volume
+         */
+        final double unionVolume(final Bounds other) {
+            return (Math.max(maxX, other.maxX) - Math.min(minX, other.minX)) *
+                    (Math.max(maxY, other.maxY) - Math.min(minY, other.minY)) *
+                    (Math.max(maxZ, other.maxZ) - Math.min(minZ, other.minZ));
+        }
+
+        /**
+         * Get if the box overlaps the
+         * specified box (inclusive)
+         *
+         * @return if the boxes overlap
+         */
+        final boolean overlaps(final double minX, final double minY, final double minZ,
+                               final double maxX, final double maxY, final double maxZ) {
+            return this.minX <= maxX && this.maxX >= minX &&
+                    this.minY <= maxY && this.maxY >= minY &&
+                    this.minZ <= maxZ && this.maxZ >= minZ;
+        }
+    }
+
+    /**
+     * Represents a tree node
+     */
+    private final static class Node extends Bounds {
+
+        private final boolean leaf;
+        private final List<Bounds> children = new ArrayList<>(MAX_ENTRIES + 1);
+
+        private Node(final boolean leaf) {
+            this.leaf = leaf;
+        }
+
+        /**
+         * Add a child to the node
+         *
+         * @param child the child
+         */
+        private void add(final Bounds child) {
+            if (children.isEmpty()) {
+                minX = child.minX;
+                minY = child.minY;
+                minZ = child.minZ;
+                maxX = child.maxX;
+                maxY = child.maxY;
+                maxZ = child.maxZ;
+            } else {
+                minX = Math.min(minX, child.minX);
+                minY = Math.min(minY, child.minY);
+                minZ = Math.min(minZ, child.minZ);
+                maxX = Math.max(maxX, child.maxX);
+                maxY = Math.max(maxY, child.maxY);
+                maxZ = Math.max(maxZ, child.maxZ);
+            }
+
+            children.add(child);
+            child.parent = this;
+        }
+
+        /**
+         * Recalculate the node bounds
+         * from its children
+         */
+        private void recalculate() {
+            if (children.isEmpty()) {
+                minX = minY = minZ = maxX = maxY = maxZ = 0;
+                return;
+            }
+
+            minX = minY = minZ = Double.POSITIVE_INFINITY;
+            maxX = maxY = maxZ = Double.NEGATIVE_INFINITY;
+            for (Bounds child : children) {
+                minX = Math.min(minX, child.minX);
+                minY = Math.min(minY, child.minY);
+                minZ = Math.min(minZ, child.minZ);
+                maxX = Math.max(maxX, child.maxX);
+                maxY = Math.max(maxY, child.maxY);
+                maxZ = Math.max(maxZ, child.maxZ);
+            }
+        }
+    }
+
+    /**
+     * Represents an indexed playground
+     */
+    private final static class Entry extends Bounds {
+
+        private final Playground playground;
+
+        private Entry(final Playground playground, final BoundingBox box) {
+            this.playground = playground;
+
+            minX = box.getMinX();
+            minY = box.getMinY();
+            minZ = box.getMinZ();
+            maxX = box.getMaxX();
+            maxY = box.getMaxY();
+            maxZ = box.getMaxZ();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package es.karmadev.gamelib.region.scan;
+
+import org.bukkit.ChunkSnapshot;
+
+/**
+ * Represents an accumulator of a
+ * {@link PlaygroundScanner scan}. The
+ * accumulator runs outside the main thread,
+ * and reads the block from the chunk snapshot
+ * instead of the world
+ *
+ * @param <A> the result container type
+ */
+@FunctionalInterface
+public interface BlockAccumulator<A> {
+
+    /**
+     * Accumulate a block into the result
+     * container. The snapshot must be read with
+     * the chunk relative coordinates, which are
+     * {@code x & 15} and {@code z & 15}
+     *
+     * @param result the result container
+     * @param chunk the chunk snapshot the block is at
+     * @param x the block X coordinate
+     * @param y the block Y coordinate
+     * @param z the block Z coordinate
+     */
+    void accept(final A result, final ChunkSnapshot chunk, final int x, final int y, final int z);
+}
@@ -0,0 +1,200 @@
+package es.karmadev.gamelib.region.scan;
+
+import es.karmadev.gamelib.GameLib;
+import es.karmadev.gamelib.region.Playground;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Chunk helpers for the playground work which
+ * runs outside the main thread. The chunks of the
+ * playground are enumerated and captured on the main
+ * thread, and then processed outside of it.
+ * <p>
+ * Chunks are packed as a single long, with the
+ * chunk X on the upper bits and the chunk Z on the
+ * lower bits
+ */
+public final class PlaygroundChunks {
+
+    private PlaygroundChunks() {}
+
+    /**
+     * Get the min block Y of the box,
+     * clamped to the world height
+     *
+     * @param world the world
+     * @param box the box
+     * @return the min block Y
+     */
+    public static int minY(final World world, final BoundingBox box) {
+        return Math.max((int) Math.floor(box.getMinY()), world.getMinHeight());
+    }
+
+    /**
+     * Get the max block Y of the box,
+     * clamped to the world height
+     *
+     * @param world the world
+     * @param box the box
+     * @return the max block Y
+     */
+    public static int maxY(final World world, final BoundingBox box) {
+        return Math.min((int) Math.floor(box.getMaxY()), world.getMaxHeight() - 1);
+    }
+
+    /**
+     * Get all the chunks the box
+     * covers
+     *
+     * @param box the box
+     * @return the packed chunks
+     */
+    public static long[] covering(final BoundingBox box) {
+        int minChunkX = (int) Math.floor(box.getMinX()) >> 4;
+        int minChunkZ = (int) Math.floor(box.getMinZ()) >> 4;
+        int maxChunkX = (int) Math.floor(box.getMaxX()) >> 4;
+        int maxChunkZ = (int) Math.floor(box.getMaxZ()) >> 4;
+
+        long[] chunks = new long[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)];
+        int count = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks[count++] = pack(chunkX, chunkZ);
+            }
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Get the chunks which contain at least
+     * one playground block between the Y bounds
+     *
+     * @param playground the playground
+     * @param minY the min block Y
+     * @param maxY the max block Y
+     * @return the packed chunks
+     */
+    public static long[] of(final Playground playground, final int minY, final int maxY) {
+        if (minY > maxY) return new long[0];
+
+        long[] chunks = covering(playground.getBoundingBox());
+        int count = 0;
+        for (long chunk : chunks) {
+            int fromX = chunkX(chunk) << 4;
+            int fromZ = chunkZ(chunk) << 4;
+
+            if (playground.forEachBlock(fromX, minY, fromZ, fromX + 15, maxY, fromZ + 15, (x, y, z) -> false)) {
+                continue; //The chunk does not contain any playground block
+            }
+
+            chunks[count++] = chunk;
+        }
+
+        return Arrays.copyOf(chunks, count);
+    }
+
+    /**
+     * Capture the snapshots of the chunks.
+     * Must be called on the main thread
+     *
+     * @param world the chunks world
+     * @param chunks the packed chunks
+     * @return the chunk snapshots, in the
+     * same order as the chunks
+     */
+    public static ChunkSnapshot[] snapshots(final World world, final long[] chunks) {
+        ChunkSnapshot[] snapshots = new ChunkSnapshot[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            snapshots[i] = world.getChunkAt(chunkX(chunks[i]), chunkZ(chunks[i])).getChunkSnapshot(false, false, false);
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * Run a capture on the main thread, and then
+     * run the work it returns on the executor. If
+     * called from the main thread, the capture runs
+     * at once, otherwise it runs on the next tick
+     *
+     * @param capture the capture, which returns the
+     *                work to run outside the main thread
+     * @param executor the executor to run the work at
+     * @return the work result
+     * @param <T> the result type
+     */
+    public static <T> CompletableFuture<T> capture(final Supplier<Supplier<T>> capture, final Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                Supplier<T> work = capture.get();
+                CompletableFuture.supplyAsync(work, executor).whenComplete((result, error) -> {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                        return;
+                    }
+
+                    future.complete(result);
+                });
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        };
+
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+            return future;
+        }
+
+        GameLib lib = GameLib.getInstance();
+        if (lib == null) {
+            future.completeExceptionally(new IllegalStateException("Cannot capture playground chunks outside the main thread"));
+            return future;
+        }
+
+        lib.runSync(task);
+        return future;
+    }
+
+    /**
+     * Pack the chunk coordinates
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the packed chunk
+     */
+    public static long pack(final int chunkX, final int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the X of a packed
+     * chunk
+     *
+     * @param chunk the packed chunk
+     * @return the chunk X
+     */
+    public static int chunkX(final long chunk) {
+        return (int) (chunk >> 32);
+    }
+
+    /**
+     * Get the Z of a packed
+     * chunk
+     *
+     * @param chunk the packed chunk
+     * @return the chunk Z
+     */
+    public static int chunkZ(final long chunk) {
+        return (int) chunk;
+    }
+}
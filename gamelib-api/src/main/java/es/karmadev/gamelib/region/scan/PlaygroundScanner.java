@@ -0,0 +1,228 @@
+package es.karmadev.gamelib.region.scan;
+
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.region.Playground;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Scans the blocks of a playground
+ * outside the main thread. The chunks
+ * covered by the playground are captured
+ * as {@link ChunkSnapshot snapshots} on the
+ * main thread, and then processed in parallel
+ * on a fork/join pool
+ */
+public final class PlaygroundScanner {
+
+    private final static Material[] MATERIALS = Material.values();
+
+    private final Playground playground;
+    private final ForkJoinPool pool;
+
+    /**
+     * Initialize the playground scanner
+     *
+     * @param playground the playground to scan
+     */
+    public PlaygroundScanner(final Playground playground) {
+        this(playground, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initialize the playground scanner
+     *
+     * @param playground the playground to scan
+     * @param pool the pool to process the chunks at
+     */
+    public PlaygroundScanner(final Playground playground, final ForkJoinPool pool) {
+        this.playground = playground;
+        this.pool = pool;
+    }
+
+    /**
+     * Scan the playground blocks. Each chunk
+     * is accumulated into its own result container,
+     * and then all the containers are combined into
+     * the final result
+     *
+     * @param supplier the result container supplier
+     * @param accumulator the block accumulator
+     * @param combiner the result containers combiner
+     * @return the scan result
+     * @param <A> the result type
+     */
+    public <A> CompletableFuture<A> scan(final Supplier<A> supplier, final BlockAccumulator<A> accumulator,
+                                         final BinaryOperator<A> combiner) {
+        return PlaygroundChunks.capture(() -> {
+            CapturedChunk[] chunks = capture();
+            return () -> new ScanTask<>(chunks, 0, chunks.length, supplier, accumulator, combiner).invoke();
+        }, pool);
+    }
+
+    /**
+     * Count the playground blocks which
+     * match the filter
+     *
+     * @param filter the block type filter
+     * @return the number of matching blocks
+     */
+    public CompletableFuture<Long> count(final Predicate<Material> filter) {
+        return scan(() -> new long[1], (result, chunk, x, y, z) -> {
+            if (filter.test(chunk.getBlockType(x & 15, y, z & 15))) result[0]++;
+        }, (a, b) -> {
+            a[0] += b[0];
+            return a;
+        }).thenApply((result) -> result[0]);
+    }
+
+    /**
+     * Find the position of all the playground
+     * blocks which match the filter
+     *
+     * @param filter the block type filter
+     * @return the matching block positions
+     */
+    public CompletableFuture<List<Position3D>> find(final Predicate<Material> filter) {
+        World world = playground.getWorld();
+        return scan(ArrayList::new, (List<Position3D> result, ChunkSnapshot chunk, int x, int y, int z) -> {
+            if (filter.test(chunk.getBlockType(x & 15, y, z & 15))) {
+                result.add(new Position3D(world, x, y, z));
+            }
+        }, (a, b) -> {
+            a.addAll(b);
+            return a;
+        });
+    }
+
+    /**
+     * Get the palette of the playground, which
+     * is the number of blocks of each type
+     *
+     * @return the playground palette
+     */
+    public CompletableFuture<Map<Material, Long>> palette() {
+        return scan(() -> new long[MATERIALS.length], (result, chunk, x, y, z) ->
+                result[chunk.getBlockType(x & 15, y, z & 15).ordinal()]++, (a, b) -> {
+            for (int i = 0; i < a.length; i++) {
+                a[i] += b[i];
+            }
+
+            return a;
+        }).thenApply((result) -> {
+            Map<Material, Long> palette = new EnumMap<>(Material.class);
+            for (int i = 0; i < result.length; i++) {
+                if (result[i] > 0) palette.put(MATERIALS[i], result[i]);
+            }
+
+            return palette;
+        });
+    }
+
+    /**
+     * Capture the snapshots of all the
+     * chunks which contain at least one
+     * playground block
+     *
+     * @return the captured chunks
+     */
+    private CapturedChunk[] capture() {
+        World world = playground.getWorld();
+        BoundingBox box = playground.getBoundingBox();
+
+        int minY = PlaygroundChunks.minY(world, box);
+        int maxY = PlaygroundChunks.maxY(world, box);
+        long[] keys = PlaygroundChunks.of(playground, minY, maxY);
+        ChunkSnapshot[] snapshots = PlaygroundChunks.snapshots(world, keys);
+
+        CapturedChunk[] chunks = new CapturedChunk[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int fromX = PlaygroundChunks.chunkX(keys[i]) << 4;
+            int fromZ = PlaygroundChunks.chunkZ(keys[i]) << 4;
+            chunks[i] = new CapturedChunk(snapshots[i], fromX, minY, fromZ, fromX + 15, maxY, fromZ + 15);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Represents a captured chunk, and
+     * the block box of the chunk to scan
+     */
+    private final static class CapturedChunk {
+
+        private final ChunkSnapshot snapshot;
+        private final int fromX, fromY, fromZ, toX, toY, toZ;
+
+        private CapturedChunk(final ChunkSnapshot snapshot, final int fromX, final int fromY, final int fromZ,
+                              final int toX, final int toY, final int toZ) {
+            this.snapshot = snapshot;
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.fromZ = fromZ;
+            this.toX = toX;
+            this.toY = toY;
+            this.toZ = toZ;
+        }
+    }
+
+    /**
+     * Fork/join task which scans a range
+     * of the captured chunks
+     *
+     * @param <A> the result type
+     */
+    private final class ScanTask<A> extends RecursiveTask<A> {
+
+        private final CapturedChunk[] chunks;
+        private final int start, end;
+        private final Supplier<A> supplier;
+        private final BlockAccumulator<A> accumulator;
+        private final BinaryOperator<A> combiner;
+
+        private ScanTask(final CapturedChunk[] chunks, final int start, final int end, final Supplier<A> supplier,
+                         final BlockAccumulator<A> accumulator, final BinaryOperator<A> combiner) {
+            this.chunks = chunks;
+            this.start = start;
+            this.end = end;
+            this.supplier = supplier;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected A compute() {
+            if (end - start <= 1) {
+                A result = supplier.get();
+                if (end == start) return result;
+
+                CapturedChunk chunk = chunks[start];
+                playground.forEachBlock(chunk.fromX, chunk.fromY, chunk.fromZ, chunk.toX, chunk.toY, chunk.toZ, (x, y, z) -> {
+                    accumulator.accept(result, chunk.snapshot, x, y, z);
+                    return true;
+                });
+
+                return result;
+            }
+
+            int middle = (start + end) >>> 1;
+            ScanTask<A> left = new ScanTask<>(chunks, start, middle, supplier, accumulator, combiner);
+            ScanTask<A> right = new ScanTask<>(chunks, middle, end, supplier, accumulator, combiner);
+
+            left.fork();
+            A rightResult = right.compute();
+
+            return combiner.apply(left.join(), rightResult);
+        }
+    }
+}
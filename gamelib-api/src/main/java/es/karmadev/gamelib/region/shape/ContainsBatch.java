@@ -0,0 +1,49 @@
+package es.karmadev.gamelib.region.shape;
+
+import java.util.BitSet;
+
+/**
+ * Helper for the batched containment
+ * tests of the shapes. The shapes write the
+ * result of each coordinate into a flag array
+ * from a loop without branches or loop-carried
+ * state, which the JIT can vectorize, and the
+ * flags are copied into the output bits after
+ */
+final class ContainsBatch {
+
+    /**
+     * The max amount of coordinates
+     * tested per batch
+     */
+    final static int SIZE = 1024;
+
+    private ContainsBatch() {}
+
+    /**
+     * Create the flag array for a
+     * batched test
+     *
+     * @param n the amount of coordinates to test
+     * @return the flag array
+     */
+    static boolean[] flags(final int n) {
+        return new boolean[Math.max(0, Math.min(n, SIZE))];
+    }
+
+    /**
+     * Copy the flags of a batch into
+     * the output bits. The output bits must
+     * be cleared before
+     *
+     * @param flags the batch flags
+     * @param length the amount of flags to copy
+     * @param base the index of the first batch coordinate
+     * @param out the output bits
+     */
+    static void copy(final boolean[] flags, final int length, final int base, final BitSet out) {
+        for (int i = 0; i < length; i++) {
+            if (flags[i]) out.set(base + i);
+        }
+    }
+}
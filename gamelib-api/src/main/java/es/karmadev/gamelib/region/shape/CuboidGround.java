@@ -1,15 +1,16 @@
 package es.karmadev.gamelib.region.shape;
 
 import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.pos.VoxelVisitor;
 import es.karmadev.gamelib.region.GameShape;
 import es.karmadev.gamelib.region.Playground;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.*;
 
 /**
  * Represents a cuboid playground
@@ -19,6 +20,8 @@ public abstract class CuboidGround implements Playground {
     protected final World world;
     protected final double minX, minY, minZ, maxX, maxY, maxZ;
 
+    private final int blockMinX, blockMinY, blockMinZ;
+
     /**
      * Initialize the cuboid playground
      *
@@ -36,6 +39,10 @@ public abstract class CuboidGround implements Playground {
         this.maxX = Math.max(pos1.getX(), pos2.getX());
         this.maxY = Math.max(pos1.getY(), pos2.getY());
         this.maxZ = Math.max(pos1.getZ(), pos2.getZ());
+
+        this.blockMinX = (int) Math.floor(minX);
+        this.blockMinY = (int) Math.floor(minY);
+        this.blockMinZ = (int) Math.floor(minZ);
     }
 
     /**
@@ -147,6 +154,17 @@ public abstract class CuboidGround implements Playground {
         return new Position3D(world, centerX, centerY, centerZ);
     }
 
+    /**
+     * Get the center of the playground
+     * as a vector
+     *
+     * @return the center vector
+     */
+    @Override
+    public Vec3 getCenterVector() {
+        return Vec3.of((minX + maxX) / 2, (minY + maxY) / 2, (minZ + maxZ) / 2);
+    }
+
     /**
      * Get all the playground corner
      * positions
@@ -161,6 +179,17 @@ public abstract class CuboidGround implements Playground {
         return Arrays.asList(top, bottom);
     }
 
+    /**
+     * Get the box which contains the
+     * whole playground area
+     *
+     * @return the playground bounding box
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
     /**
      * Get all the blocks inside the
      * playground area
@@ -170,17 +199,58 @@ public abstract class CuboidGround implements Playground {
     @Override
     public Collection<Block> getBlocks() {
         Collection<Block> blocks = new ArrayList<>();
+        forEachBlock((x, y, z) -> {
+            blocks.add(world.getBlockAt(x, y, z));
+            return true;
+        });
+
+        return blocks;
+    }
 
-        for (int x = (int) minX; x < maxX; x++) {
-            for (int y = (int) minY; y < maxY; y++) {
-                for (int z = (int) minZ; z < maxZ; z++) {
-                    Block block = world.getBlockAt(x, y, z);
-                    blocks.add(block);
+    /**
+     * Visit the coordinates of the blocks inside
+     * the playground area which are also inside the
+     * specified block box, without creating any block
+     *
+     * @param fromX the box min block X
+     * @param fromY the box min block Y
+     * @param fromZ the box min block Z
+     * @param toX the box max block X (inclusive)
+     * @param toY the box max block Y (inclusive)
+     * @param toZ the box max block Z (inclusive)
+     * @param visitor the block visitor. The iteration
+     *                stops once the visitor returns false
+     * @return if all the blocks were visited
+     */
+    @Override
+    public boolean forEachBlock(final int fromX, final int fromY, final int fromZ,
+                                final int toX, final int toY, final int toZ,
+                                final VoxelVisitor visitor) {
+        int startX = Math.max((int) Math.floor(minX), fromX);
+        int startY = Math.max((int) Math.floor(minY), fromY);
+        int startZ = Math.max((int) Math.floor(minZ), fromZ);
+
+        for (int x = startX; x < maxX && x <= toX; x++) {
+            for (int y = startY; y < maxY && y <= toY; y++) {
+                for (int z = startZ; z < maxZ && z <= toZ; z++) {
+                    if (!visitor.visit(x, y, z)) return false;
                 }
             }
         }
 
-        return blocks;
+        return true;
+    }
+
+    /**
+     * Get a lazy iterator over the blocks
+     * inside the playground area. Blocks are
+     * only created when requested
+     *
+     * @return the playground blocks iterator
+     */
+    @Override
+    public Iterator<Block> blockIterator() {
+        return new BlockIterator();
     }
 
     /**
@@ -194,11 +264,113 @@ public abstract class CuboidGround implements Playground {
      */
     @Override
     public double distance(final double x, final double y, final double z) {
-        Position3D center = getCenter();
-        double vX = center.getX() - x;
-        double vY = center.getY() - y;
-        double vZ = center.getZ() - z;
+        double vX = (minX + maxX) / 2 - x;
+        double vY = (minY + maxY) / 2 - y;
+        double vZ = (minZ + maxZ) / 2 - z;
+
+        return Math.sqrt(vX * vX + vY * vY + vZ * vZ);
+    }
 
-        return Math.sqrt(vX + vY + vZ);
+    /**
+     * Get if the playground contains
+     * the coordinates
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return if the coordinates are inside
+     * the playground
+     */
+    @Override
+    public boolean contains(final double x, final double y, final double z) {
+        return x >= minX & x <= maxX &
+                y >= minY & y <= maxY &
+                z >= minZ & z <= maxZ;
+    }
+
+    /**
+     * Get if the playground contains the
+     * block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return if the block is inside the
+     * playground
+     */
+    @Override
+    public boolean containsBlock(final int x, final int y, final int z) {
+        return x >= blockMinX & x < maxX &
+                y >= blockMinY & y < maxY &
+                z >= blockMinZ & z < maxZ;
+    }
+
+    /**
+     * Test a batch of coordinates against
+     * the playground
+     *
+     * @param xs the X coordinates
+     * @param ys the Y coordinates
+     * @param zs the Z coordinates
+     * @param n the amount of coordinates to test
+     * @param out the output bits. The first n bits
+     *            are overwritten
+     */
+    @Override
+    public void containsAll(final double[] xs, final double[] ys, final double[] zs, final int n, final BitSet out) {
+        double minX = this.minX, minY = this.minY, minZ = this.minZ;
+        double maxX = this.maxX, maxY = this.maxY, maxZ = this.maxZ;
+
+        out.clear(0, n);
+        boolean[] inside = ContainsBatch.flags(n);
+        for (int base = 0; base < n; base += inside.length) {
+            int length = Math.min(inside.length, n - base);
+            for (int i = 0; i < length; i++) {
+                double x = xs[base + i];
+                double y = ys[base + i];
+                double z = zs[base + i];
+
+                inside[i] = x >= minX & x <= maxX &
+                        y >= minY & y <= maxY &
+                        z >= minZ & z <= maxZ;
+            }
+
+            ContainsBatch.copy(inside, length, base, out);
+        }
+    }
+
+    /**
+     * Lazy iterator over the cuboid
+     * blocks
+     */
+    private final class BlockIterator implements Iterator<Block> {
+
+        private final int startY = (int) Math.floor(minY);
+        private final int startZ = (int) Math.floor(minZ);
+
+        private int x = (int) Math.floor(minX);
+        private int y = startY;
+        private int z = startZ;
+
+        @Override
+        public boolean hasNext() {
+            return x < maxX && startY < maxY && startZ < maxZ;
+        }
+
+        @Override
+        public Block next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Block block = world.getBlockAt(x, y, z);
+
+            if (++z >= maxZ) {
+                z = startZ;
+                if (++y >= maxY) {
+                    y = startY;
+                    x++;
+                }
+            }
+
+            return block;
+        }
     }
 }
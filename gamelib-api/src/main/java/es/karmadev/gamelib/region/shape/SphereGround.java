@@ -1,11 +1,13 @@
 package es.karmadev.gamelib.region.shape;
 
-import es.karmadev.gamelib.math.MathUtils;
 import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.pos.VoxelVisitor;
 import es.karmadev.gamelib.region.GameShape;
 import es.karmadev.gamelib.region.Playground;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -96,6 +98,17 @@ public abstract class SphereGround implements Playground {
         return new Position3D(world, centerX, centerY, centerZ);
     }
 
+    /**
+     * Get the center of the playground
+     * as a vector
+     *
+     * @return the center vector
+     */
+    @Override
+    public Vec3 getCenterVector() {
+        return Vec3.of(centerX, centerY, centerZ);
+    }
+
     /**
      * Get the radius of the sphere
      *
@@ -117,6 +130,18 @@ public abstract class SphereGround implements Playground {
         return Collections.singleton(center);
     }
 
+    /**
+     * Get the box which contains the
+     * whole playground area
+     *
+     * @return the playground bounding box
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return new BoundingBox(centerX - radius, centerY - radius, centerZ - radius,
+                centerX + radius, centerY + radius, centerZ + radius);
+    }
+
     /**
      * Get all the blocks inside the
      * playground area
@@ -125,33 +150,146 @@ public abstract class SphereGround implements Playground {
      */
     @Override
     public Collection<Block> getBlocks() {
-        Set<Block> blocks = new HashSet<>();
+        Collection<Block> blocks = new ArrayList<>();
+        forEachBlock((x, y, z) -> {
+            blocks.add(world.getBlockAt(x, y, z));
+            return true;
+        });
 
-        int maxX = (int) (centerX + radius);
-        int maxY = (int) (centerY + radius);
-        int maxZ = (int) (centerZ + radius);
+        return blocks;
+    }
 
-        int minX = (int) (centerX - radius);
-        int minY = (int) (centerY - radius);
-        int minZ = (int) (centerZ - radius);
+    /**
+     * Visit the coordinates of the blocks inside
+     * the playground area which are also inside the
+     * specified block box, without creating any block
+     *
+     * @param fromX the box min block X
+     * @param fromY the box min block Y
+     * @param fromZ the box min block Z
+     * @param toX the box max block X (inclusive)
+     * @param toY the box max block Y (inclusive)
+     * @param toZ the box max block Z (inclusive)
+     * @param visitor the block visitor. The iteration
+     *                stops once the visitor returns false
+     * @return if all the blocks were visited
+     */
+    @Override
+    public boolean forEachBlock(final int fromX, final int fromY, final int fromZ,
+                                final int toX, final int toY, final int toZ,
+                                final VoxelVisitor visitor) {
+        int maxX = Math.min((int) Math.floor(centerX + radius), toX);
+        int maxZ = Math.min((int) Math.floor(centerZ + radius), toZ);
 
+        int minX = Math.max((int) Math.floor(centerX - radius), fromX);
+        int minZ = Math.max((int) Math.floor(centerZ - radius), fromZ);
+
+        double radiusSquared = radius * radius;
         for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    double distance = MathUtils.calcDistToCenter(
-                            centerX, centerY, centerZ,
-                            x, y, z
-                    );
-
-                    if (distance <= radius) {
-                        Block block = world.getBlockAt(x, y, z);
-                        blocks.add(block);
-                    }
+            double dX = x - centerX;
+            double rest = radiusSquared - dX * dX;
+            if (rest < 0) continue;
+
+            /*
+            We only visit the z range of the circle
+            at this x, and then the y range of each
+            column, so no voxel outside the sphere
+            is ever tested
+             */
+            double halfZ = Math.sqrt(rest);
+            int columnMinZ = Math.max((int) Math.floor(centerZ - halfZ), minZ);
+            int columnMaxZ = Math.min((int) Math.ceil(centerZ + halfZ), maxZ);
+
+            for (int z = columnMinZ; z <= columnMaxZ; z++) {
+                long column = column(x, z, fromY, toY);
+                int maxY = columnMax(column);
+
+                for (int y = columnMin(column); y <= maxY; y++) {
+                    if (!visitor.visit(x, y, z)) return false;
                 }
             }
         }
 
-        return blocks;
+        return true;
+    }
+
+    /**
+     * Get the y range of the sphere blocks
+     * at the column. The range is computed once
+     * from the circle equation, and then adjusted
+     * so it matches {@link #containsBlock(int, int, int)}
+     * exactly
+     *
+     * @param x the column X
+     * @param z the column Z
+     * @param fromY the min Y to return
+     * @param toY the max Y to return
+     * @return the packed column range, use
+     * {@link #columnMin(long)} and {@link #columnMax(long)}
+     * to read it. The range is empty if its min is greater
+     * than its max
+     */
+    private long column(final int x, final int z, final int fromY, final int toY) {
+        double dX = x - centerX;
+        double dZ = z - centerZ;
+        double rest = radius * radius - dX * dX - dZ * dZ;
+        if (rest < 0) return packColumn(1, 0);
+
+        double half = Math.sqrt(rest);
+        int minY = (int) Math.ceil(centerY - half);
+        int maxY = (int) Math.floor(centerY + half);
+
+        while (containsBlock(x, minY - 1, z)) minY--;
+        while (minY <= maxY && !containsBlock(x, minY, z)) minY++;
+        while (containsBlock(x, maxY + 1, z)) maxY++;
+        while (maxY >= minY && !containsBlock(x, maxY, z)) maxY--;
+
+        return packColumn(Math.max(minY, fromY), Math.min(maxY, toY));
+    }
+
+    /**
+     * Pack a column range
+     *
+     * @param minY the column min Y
+     * @param maxY the column max Y
+     * @return the packed column range
+     */
+    private static long packColumn(final int minY, final int maxY) {
+        return ((long) minY << 32) | (maxY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the min Y of a packed
+     * column range
+     *
+     * @param column the packed column range
+     * @return the column min Y
+     */
+    private static int columnMin(final long column) {
+        return (int) (column >> 32);
+    }
+
+    /**
+     * Get the max Y of a packed
+     * column range
+     *
+     * @param column the packed column range
+     * @return the column max Y
+     */
+    private static int columnMax(final long column) {
+        return (int) column;
+    }
+
+    /**
+     * Get a lazy iterator over the blocks
+     * inside the playground area. Blocks are
+     * only created when requested
+     *
+     * @return the playground blocks iterator
+     */
+    @Override
+    public Iterator<Block> blockIterator() {
+        return new BlockIterator();
     }
 
     /**
@@ -171,4 +309,112 @@ public abstract class SphereGround implements Playground {
                         Math.pow(z - centerZ, 2)
         );
     }
+
+    /**
+     * Get if the playground contains
+     * the coordinates
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return if the coordinates are inside
+     * the playground
+     */
+    @Override
+    public boolean contains(final double x, final double y, final double z) {
+        double dX = x - centerX;
+        double dY = y - centerY;
+        double dZ = z - centerZ;
+
+        return dX * dX + dY * dY + dZ * dZ <= radius * radius;
+    }
+
+    /**
+     * Get if the playground contains the
+     * block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return if the block is inside the
+     * playground
+     */
+    @Override
+    public boolean containsBlock(final int x, final int y, final int z) {
+        return contains(x, y, z);
+    }
+
+    /**
+     * Test a batch of coordinates against
+     * the playground
+     *
+     * @param xs the X coordinates
+     * @param ys the Y coordinates
+     * @param zs the Z coordinates
+     * @param n the amount of coordinates to test
+     * @param out the output bits. The first n bits
+     *            are overwritten
+     */
+    @Override
+    public void containsAll(final double[] xs, final double[] ys, final double[] zs, final int n, final BitSet out) {
+        double centerX = this.centerX, centerY = this.centerY, centerZ = this.centerZ;
+        double radiusSquared = radius * radius;
+
+        out.clear(0, n);
+        boolean[] inside = ContainsBatch.flags(n);
+        for (int base = 0; base < n; base += inside.length) {
+            int length = Math.min(inside.length, n - base);
+            for (int i = 0; i < length; i++) {
+                double dX = xs[base + i] - centerX;
+                double dY = ys[base + i] - centerY;
+                double dZ = zs[base + i] - centerZ;
+
+                inside[i] = dX * dX + dY * dY + dZ * dZ <= radiusSquared;
+            }
+
+            ContainsBatch.copy(inside, length, base, out);
+        }
+    }
+
+    /**
+     * Lazy iterator over the sphere
+     * blocks
+     */
+    private final class BlockIterator implements Iterator<Block> {
+
+        private final int minZ = (int) Math.floor(centerZ - radius);
+        private final int maxX = (int) Math.floor(centerX + radius);
+        private final int maxZ = (int) Math.floor(centerZ + radius);
+
+        private int x = (int) Math.floor(centerX - radius);
+        private int z = minZ - 1;
+        private int y = 1;
+        private int maxY = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (y <= maxY) return true;
+
+            while (x <= maxX) {
+                if (++z > maxZ) {
+                    z = minZ - 1;
+                    x++;
+                    continue;
+                }
+
+                long column = column(x, z, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                y = columnMin(column);
+                maxY = columnMax(column);
+                if (y <= maxY) return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public Block next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return world.getBlockAt(x, y++, z);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package es.karmadev.gamelib.region.track;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.region.Playground;
+
+import java.util.Collection;
+
+/**
+ * Listens for the entities which enter
+ * or leave a tracked playground. The changes
+ * are reported in batches, once per tick
+ */
+@FunctionalInterface
+public interface RegionListener {
+
+    /**
+     * Handle the playground membership
+     * changes of the last tick
+     *
+     * @param playground the playground
+     * @param entered the entities which entered the playground
+     * @param left the entities which left the playground
+     */
+    void onUpdate(final Playground playground, final Collection<EngineEntity> entered,
+                  final Collection<EngineEntity> left);
+}
@@ -0,0 +1,78 @@
+package es.karmadev.gamelib.region.track;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.region.Playground;
+
+import java.util.Collection;
+
+/**
+ * Tracks the plugin-aware entities inside
+ * playgrounds. Membership is updated incrementally,
+ * entities are tested by the block they stand in, and
+ * only again once they move to another block. The
+ * changes are reported to the {@link RegionListener listeners}
+ * once per tick
+ */
+public interface RegionTracker {
+
+    /**
+     * Start tracking a playground. The playground
+     * is also held on the {@link es.karmadev.gamelib.region.index.PlaygroundRegistry registry}
+     * while it's tracked
+     *
+     * @param playground the playground to track
+     */
+    void track(final Playground playground);
+
+    /**
+     * Stop tracking a playground. No leave
+     * updates are reported for its members, and
+     * the playground is released from the registry
+     *
+     * @param playground the playground to stop tracking
+     */
+    void untrack(final Playground playground);
+
+    /**
+     * Get if the playground is tracked
+     *
+     * @param playground the playground
+     * @return if the playground is tracked
+     */
+    boolean isTracked(final Playground playground);
+
+    /**
+     * Add a listener to a playground. The
+     * playground is tracked if it was not
+     *
+     * @param playground the playground
+     * @param listener the listener to add
+     */
+    void addListener(final Playground playground, final RegionListener listener);
+
+    /**
+     * Remove a listener from a playground
+     *
+     * @param playground the playground
+     * @param listener the listener to remove
+     */
+    void removeListener(final Playground playground, final RegionListener listener);
+
+    /**
+     * Get the entities inside a tracked
+     * playground
+     *
+     * @param playground the playground
+     * @return the playground members
+     */
+    Collection<EngineEntity> getMembers(final Playground playground);
+
+    /**
+     * Get the tracked playgrounds the
+     * entity is inside of
+     *
+     * @param entity the entity
+     * @return the entity playgrounds
+     */
+    Collection<Playground> getRegions(final EngineEntity entity);
+}
@@ -0,0 +1,324 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.VoxelVisitor;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Line of sight engine. Rays are traversed
+ * voxel by voxel using the Amanatides-Woo grid
+ * traversal, so each voxel crossed by the ray is
+ * visited exactly once, in order, and without
+ * allocating anything per step.
+ * <p>
+ * A ray can have thickness, in which case it
+ * is swept as a box, and every voxel the box
+ * touches is visited once
+ */
+public final class LineOfSight {
+
+    /**
+     * The default occlusion test. Blocks
+     * which fully occlude the view, and are
+     * not interactable, block the sight, unless
+     * {@link OcclusionTable#setOccluding(boolean, Material...) overridden}
+     */
+    public final static Predicate<Material> DEFAULT_OCCLUSION = OcclusionTable.DEFAULT;
+
+    /**
+     * Thin line of sight, with the
+     * default occlusion test
+     */
+    public final static LineOfSight DEFAULT = new LineOfSight(0, 0, 0, DEFAULT_OCCLUSION);
+
+    private final double thicknessX, thicknessY, thicknessZ;
+    private final Predicate<Material> occlusion;
+
+    /**
+     * Initialize the line of sight
+     *
+     * @param thickness the ray thickness, which is the
+     *                  distance from the ray to the box
+     *                  sides
+     */
+    public LineOfSight(final double thickness) {
+        this(thickness, thickness, thickness, DEFAULT_OCCLUSION);
+    }
+
+    /**
+     * Initialize the line of sight
+     *
+     * @param thicknessX the ray thickness on the X axis
+     * @param thicknessY the ray thickness on the Y axis
+     * @param thicknessZ the ray thickness on the Z axis
+     * @param occlusion the test of the blocks which
+     *                  block the sight
+     */
+    public LineOfSight(final double thicknessX, final double thicknessY, final double thicknessZ,
+                       final Predicate<Material> occlusion) {
+        this.thicknessX = Math.max(0, thicknessX);
+        this.thicknessY = Math.max(0, thicknessY);
+        this.thicknessZ = Math.max(0, thicknessZ);
+        this.occlusion = occlusion;
+    }
+
+    /**
+     * Get the line of sight of an entity
+     * ray area. A ray area offset of one block
+     * describes a thin ray, and each extra block
+     * adds one block of thickness to that side
+     *
+     * @param maxX the ray area max X offset
+     * @param maxY the ray area max Y offset
+     * @param maxZ the ray area max Z offset
+     * @param minX the ray area min X offset
+     * @param minY the ray area min Y offset
+     * @param minZ the ray area min Z offset
+     * @return the line of sight
+     */
+    public static LineOfSight fromArea(final double maxX, final double maxY, final double maxZ,
+                                       final double minX, final double minY, final double minZ) {
+        double thicknessX = (Math.abs(maxX) + Math.abs(minX)) / 2 - 1;
+        double thicknessY = (Math.abs(maxY) + Math.abs(minY)) / 2 - 1;
+        double thicknessZ = (Math.abs(maxZ) + Math.abs(minZ)) / 2 - 1;
+        if (thicknessX <= 0 && thicknessY <= 0 && thicknessZ <= 0) return DEFAULT;
+
+        return new LineOfSight(thicknessX, thicknessY, thicknessZ, DEFAULT_OCCLUSION);
+    }
+
+    /**
+     * Get if there's a clear line of sight
+     * between the positions
+     *
+     * @param from the position to look from
+     * @param to the position to look at
+     * @return if the position can be seen
+     */
+    public boolean canSee(final Position3D from, final Position3D to) {
+        World world = from.getWorld();
+        if (world == null || !world.equals(to.getWorld())) return false;
+
+        return canSee(world, from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ());
+    }
+
+    /**
+     * Get if there's a clear line of sight
+     * between the coordinates
+     *
+     * @param world the world
+     * @param fromX the X coordinate to look from
+     * @param fromY the Y coordinate to look from
+     * @param fromZ the Z coordinate to look from
+     * @param toX the X coordinate to look at
+     * @param toY the Y coordinate to look at
+     * @param toZ the Z coordinate to look at
+     * @return if the coordinates can be seen
+     */
+    public boolean canSee(final World world, final double fromX, final double fromY, final double fromZ,
+                          final double toX, final double toY, final double toZ) {
+        return traverse(fromX, fromY, fromZ, toX, toY, toZ, (x, y, z) -> !isBlocking(world, x, y, z));
+    }
+
+    /**
+     * Trace the line of sight between the
+     * coordinates, reading the blocks from the
+     * chunk snapshots instead of the world, so it
+     * can be called outside the main thread. If the
+     * ray crosses a chunk which is not captured before
+     * any block blocks the sight, the result is
+     * {@link SightResult#UNKNOWN unknown}
+     *
+     * @param snapshot the chunk snapshots
+     * @param world the world
+     * @param fromX the X coordinate to look from
+     * @param fromY the Y coordinate to look from
+     * @param fromZ the Z coordinate to look from
+     * @param toX the X coordinate to look at
+     * @param toY the Y coordinate to look at
+     * @param toZ the Z coordinate to look at
+     * @return the trace result
+     */
+    public SightResult trace(final SightSnapshot snapshot, final World world,
+                             final double fromX, final double fromY, final double fromZ,
+                             final double toX, final double toY, final double toZ) {
+        UUID worldId = world.getUID();
+        int minHeight = world.getMinHeight();
+        int maxHeight = world.getMaxHeight();
+
+        /*
+        Consecutive voxels mostly share their chunk,
+        so the last chunk is kept to skip the lookups
+         */
+        ChunkSnapshot[] last = new ChunkSnapshot[1];
+        long[] lastKey = {Long.MIN_VALUE};
+        boolean[] missing = {false};
+
+        boolean visible = traverse(fromX, fromY, fromZ, toX, toY, toZ, (x, y, z) -> {
+            if (y < minHeight || y >= maxHeight) return true;
+
+            long key = SightSnapshot.chunkKey(x >> 4, z >> 4);
+            if (key != lastKey[0]) {
+                last[0] = snapshot.getChunk(worldId, x >> 4, z >> 4);
+                lastKey[0] = key;
+            }
+
+            ChunkSnapshot chunk = last[0];
+            if (chunk == null) {
+                missing[0] = true;
+                return false;
+            }
+
+            return !occlusion.test(chunk.getBlockType(x & 15, y, z & 15));
+        });
+
+        if (visible) return SightResult.VISIBLE;
+        return missing[0] ? SightResult.UNKNOWN : SightResult.BLOCKED;
+    }
+
+    /**
+     * Get if the block blocks the sight
+     *
+     * @param world the world
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return if the block blocks the sight
+     */
+    public boolean isBlocking(final World world, final int x, final int y, final int z) {
+        if (y < world.getMinHeight() || y >= world.getMaxHeight()) return false;
+        return occlusion.test(world.getType(x, y, z));
+    }
+
+    /**
+     * Visit the voxels crossed by the ray, from
+     * the start to the end of the ray
+     *
+     * @param fromX the ray start X
+     * @param fromY the ray start Y
+     * @param fromZ the ray start Z
+     * @param toX the ray end X
+     * @param toY the ray end Y
+     * @param toZ the ray end Z
+     * @param visitor the voxel visitor. The traversal
+     *                stops once the visitor returns false
+     * @return if all the voxels were visited
+     */
+    public boolean traverse(final double fromX, final double fromY, final double fromZ,
+                            final double toX, final double toY, final double toZ,
+                            final VoxelVisitor visitor) {
+        double dX = toX - fromX;
+        double dY = toY - fromY;
+        double dZ = toZ - fromZ;
+
+        int x = (int) Math.floor(fromX);
+        int y = (int) Math.floor(fromY);
+        int z = (int) Math.floor(fromZ);
+
+        int stepX = dX > 0 ? 1 : dX < 0 ? -1 : 0;
+        int stepY = dY > 0 ? 1 : dY < 0 ? -1 : 0;
+        int stepZ = dZ > 0 ? 1 : dZ < 0 ? -1 : 0;
+
+        double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dX);
+        double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dY);
+        double deltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dZ);
+
+        double maxX = stepX > 0 ? (x + 1 - fromX) * deltaX : stepX < 0 ? (fromX - x) * deltaX : Double.POSITIVE_INFINITY;
+        double maxY = stepY > 0 ? (y + 1 - fromY) * deltaY : stepY < 0 ? (fromY - y) * deltaY : Double.POSITIVE_INFINITY;
+        double maxZ = stepZ > 0 ? (z + 1 - fromZ) * deltaZ : stepZ < 0 ? (fromZ - z) * deltaZ : Double.POSITIVE_INFINITY;
+
+        int steps = Math.abs((int) Math.floor(toX) - x) + Math.abs((int) Math.floor(toY) - y) +
+                Math.abs((int) Math.floor(toZ) - z);
+
+        boolean thick = thicknessX > 0 || thicknessY > 0 || thicknessZ > 0;
+        Sweep sweep = thick ? new Sweep() : null;
+
+        double enter = 0;
+        for (int step = 0; ; step++) {
+            if (thick) {
+                double exit = step == steps ? 1 : Math.min(maxX, Math.min(maxY, maxZ));
+                if (!sweep.visit(fromX + dX * enter, fromY + dY * enter, fromZ + dZ * enter,
+                        fromX + dX * exit, fromY + dY * exit, fromZ + dZ * exit, visitor)) return false;
+            } else if (!visitor.visit(x, y, z)) {
+                return false;
+            }
+
+            if (step == steps) return true;
+
+            if (maxX < maxY) {
+                if (maxX < maxZ) {
+                    enter = maxX;
+                    x += stepX;
+                    maxX += deltaX;
+                } else {
+                    enter = maxZ;
+                    z += stepZ;
+                    maxZ += deltaZ;
+                }
+            } else if (maxY < maxZ) {
+                enter = maxY;
+                y += stepY;
+                maxY += deltaY;
+            } else {
+                enter = maxZ;
+                z += stepZ;
+                maxZ += deltaZ;
+            }
+        }
+    }
+
+    /**
+     * Sweeps the ray box over the voxels
+     * of each traversal step. The box moves
+     * monotonically on every axis, so a voxel
+     * shared with any previous step is always
+     * shared with the last one, and skipping the
+     * voxels of the last step visits each
+     * voxel once
+     */
+    private final class Sweep {
+
+        private int lastMinX, lastMinY, lastMinZ;
+        private int lastMaxX = Integer.MIN_VALUE, lastMaxY, lastMaxZ;
+
+        /**
+         * Visit the voxels touched by the ray
+         * box between the step points
+         *
+         * @return if the traversal should continue
+         */
+        private boolean visit(final double aX, final double aY, final double aZ,
+                              final double bX, final double bY, final double bZ,
+                              final VoxelVisitor visitor) {
+            int minX = (int) Math.floor(Math.min(aX, bX) - thicknessX);
+            int minY = (int) Math.floor(Math.min(aY, bY) - thicknessY);
+            int minZ = (int) Math.floor(Math.min(aZ, bZ) - thicknessZ);
+            int maxX = (int) Math.floor(Math.max(aX, bX) + thicknessX);
+            int maxY = (int) Math.floor(Math.max(aY, bY) + thicknessY);
+            int maxZ = (int) Math.floor(Math.max(aZ, bZ) + thicknessZ);
+
+            for (int x = minX; x <= maxX; x++) {
+                boolean sharedX = x >= lastMinX && x <= lastMaxX;
+                for (int y = minY; y <= maxY; y++) {
+                    boolean sharedY = sharedX && y >= lastMinY && y <= lastMaxY;
+                    for (int z = minZ; z <= maxZ; z++) {
+                        if (sharedY && z >= lastMinZ && z <= lastMaxZ) continue;
+                        if (!visitor.visit(x, y, z)) return false;
+                    }
+                }
+            }
+
+            lastMinX = minX;
+            lastMinY = minY;
+            lastMinZ = minZ;
+            lastMaxX = maxX;
+            lastMaxY = maxY;
+            lastMaxZ = maxZ;
+            return true;
+        }
+    }
+}
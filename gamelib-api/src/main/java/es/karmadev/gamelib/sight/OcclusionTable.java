@@ -0,0 +1,194 @@
+package es.karmadev.gamelib.sight;
+
+import org.bukkit.Material;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Table of the sight flags of every material,
+ * indexed by the material ordinal. The flags
+ * are computed once, so testing a block while
+ * tracing a ray is a single array read.
+ * <p>
+ * The materials which block the sight can be
+ * {@link #setOccluding(boolean, Material...) overridden}
+ * without any cost per ray, as the override only
+ * rewrites the table
+ */
+public final class OcclusionTable implements Predicate<Material> {
+
+    /**
+     * The material is a block
+     */
+    public final static byte BLOCK = 1;
+
+    /**
+     * The material is solid
+     */
+    public final static byte SOLID = 1 << 1;
+
+    /**
+     * The material fully occludes
+     * the view
+     */
+    public final static byte OCCLUDING = 1 << 2;
+
+    /**
+     * The material is interactable
+     */
+    public final static byte INTERACTABLE = 1 << 3;
+
+    /**
+     * The material is air
+     */
+    public final static byte AIR = 1 << 4;
+
+    /**
+     * The material is a block which
+     * can be seen through
+     */
+    public final static byte TRANSPARENT = 1 << 5;
+
+    /**
+     * The material blocks the sight. By
+     * default, the occluding materials which
+     * are not interactable
+     */
+    public final static byte BLOCKS_SIGHT = 1 << 6;
+
+    /**
+     * The default occlusion table, shared
+     * by the default line of sight
+     */
+    public final static OcclusionTable DEFAULT = new OcclusionTable();
+
+    private volatile byte[] flags;
+
+    /**
+     * Initialize the occlusion table
+     * with the default flags
+     */
+    public OcclusionTable() {
+        Material[] materials = Material.values();
+        byte[] flags = new byte[materials.length];
+        for (Material material : materials) {
+            flags[material.ordinal()] = compute(material);
+        }
+
+        this.flags = flags;
+    }
+
+    /**
+     * Get the flags of a material
+     *
+     * @param material the material
+     * @return the material flags
+     */
+    public byte getFlags(final Material material) {
+        return flags[material.ordinal()];
+    }
+
+    /**
+     * Get if the material has all
+     * the flags
+     *
+     * @param material the material
+     * @param flags the flags
+     * @return if the material has the flags
+     */
+    public boolean hasFlags(final Material material, final int flags) {
+        return (this.flags[material.ordinal()] & flags) == flags;
+    }
+
+    /**
+     * Get if the material blocks
+     * the sight
+     *
+     * @param material the material
+     * @return if the material blocks the sight
+     */
+    @Override
+    public boolean test(final Material material) {
+        return (flags[material.ordinal()] & BLOCKS_SIGHT) != 0;
+    }
+
+    /**
+     * Override if the materials block
+     * the sight. Results already cached by
+     * a {@link SightCache} are kept until
+     * the cache is cleared
+     *
+     * @param occluding if the materials block
+     *                  the sight
+     * @param materials the materials
+     * @return the occlusion table
+     */
+    public OcclusionTable setOccluding(final boolean occluding, final Material... materials) {
+        synchronized (this) {
+            byte[] flags = Arrays.copyOf(this.flags, this.flags.length);
+            for (Material material : materials) {
+                int index = material.ordinal();
+                flags[index] = (byte) (occluding ? flags[index] | BLOCKS_SIGHT : flags[index] & ~BLOCKS_SIGHT);
+            }
+
+            this.flags = flags;
+        }
+
+        return this;
+    }
+
+    /**
+     * Override if the materials which match
+     * the filter block the sight
+     *
+     * @param occluding if the materials block
+     *                  the sight
+     * @param filter the materials filter
+     * @return the occlusion table
+     */
+    public OcclusionTable setOccluding(final boolean occluding, final Predicate<Material> filter) {
+        return setOccluding(occluding, Arrays.stream(Material.values()).filter(filter).toArray(Material[]::new));
+    }
+
+    /**
+     * Restore the default flags of
+     * every material
+     *
+     * @return the occlusion table
+     */
+    public OcclusionTable reset() {
+        Material[] materials = Material.values();
+        byte[] flags = new byte[materials.length];
+        for (Material material : materials) {
+            flags[material.ordinal()] = compute(material);
+        }
+
+        synchronized (this) {
+            this.flags = flags;
+        }
+
+        return this;
+    }
+
+    /**
+     * Compute the default flags
+     * of a material
+     *
+     * @param material the material
+     * @return the material flags
+     */
+    private static byte compute(final Material material) {
+        if (material.isLegacy() || !material.isBlock()) return 0;
+
+        int flags = BLOCK;
+        if (material.isSolid()) flags |= SOLID;
+        if (material.isOccluding()) flags |= OCCLUDING;
+        else flags |= TRANSPARENT;
+        if (material.isInteractable()) flags |= INTERACTABLE;
+        if (material.isAir()) flags |= AIR;
+        if (material.isOccluding() && !material.isInteractable()) flags |= BLOCKS_SIGHT;
+
+        return (byte) flags;
+    }
+}
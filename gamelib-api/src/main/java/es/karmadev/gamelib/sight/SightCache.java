@@ -0,0 +1,387 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.pos.Position3D;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of {@link LineOfSight line of sight}
+ * results. Results are keyed by the world and
+ * the ray endpoints, quantized to a fraction of
+ * a block, and the cache keeps at most the configured
+ * amount of results, dropping the least recently
+ * used ones.
+ * <p>
+ * Each result remembers the modification stamp of
+ * the chunks its ray crossed. Block changes {@link #invalidate(World, int, int) bump}
+ * the stamp of their chunk, so any result whose ray
+ * crossed a modified chunk is computed again
+ */
+public final class SightCache {
+
+    /**
+     * The default max amount of
+     * cached results
+     */
+    public final static int DEFAULT_SIZE = 8192;
+
+    /**
+     * The default endpoint quantization,
+     * in steps per block
+     */
+    public final static int DEFAULT_QUANTIZATION = 4;
+
+    private final static int STAMP_BUCKETS = 4096;
+
+    private final LineOfSight sight;
+    private final int quantization;
+    private final Map<Key, Result> results;
+    private final Map<UUID, AtomicLongArray> stamps = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Initialize the sight cache
+     *
+     * @param sight the line of sight to cache
+     */
+    public SightCache(final LineOfSight sight) {
+        this(sight, DEFAULT_SIZE, DEFAULT_QUANTIZATION);
+    }
+
+    /**
+     * Initialize the sight cache
+     *
+     * @param sight the line of sight to cache
+     * @param maxSize the max amount of cached results
+     * @param quantization the endpoint quantization, in
+     *                     steps per block
+     */
+    public SightCache(final LineOfSight sight, final int maxSize, final int quantization) {
+        this.sight = sight;
+        this.quantization = Math.max(1, quantization);
+        this.results = new LinkedHashMap<Key, Result>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Result> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the cached line of sight
+     *
+     * @return the line of sight
+     */
+    public LineOfSight getSight() {
+        return sight;
+    }
+
+    /**
+     * Get if there's a clear line of sight
+     * between the positions
+     *
+     * @param from the position to look from
+     * @param to the position to look at
+     * @return if the position can be seen
+     */
+    public boolean canSee(final Position3D from, final Position3D to) {
+        World world = from.getWorld();
+        if (world == null || !world.equals(to.getWorld())) return false;
+
+        return canSee(world, from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ());
+    }
+
+    /**
+     * Get if there's a clear line of sight
+     * between the coordinates. The result might
+     * be the one of a ray whose endpoints are less
+     * than a quantization step away
+     *
+     * @param world the world
+     * @param fromX the X coordinate to look from
+     * @param fromY the Y coordinate to look from
+     * @param fromZ the Z coordinate to look from
+     * @param toX the X coordinate to look at
+     * @param toY the Y coordinate to look at
+     * @param toZ the Z coordinate to look at
+     * @return if the coordinates can be seen
+     */
+    public boolean canSee(final World world, final double fromX, final double fromY, final double fromZ,
+                          final double toX, final double toY, final double toZ) {
+        Key key = new Key(world.getUID(), quantize(fromX), quantize(fromY), quantize(fromZ),
+                quantize(toX), quantize(toY), quantize(toZ));
+        AtomicLongArray worldStamps = stamps.computeIfAbsent(key.world, (id) -> new AtomicLongArray(STAMP_BUCKETS));
+
+        Result cached;
+        synchronized (results) {
+            cached = results.get(key);
+        }
+
+        if (cached != null) {
+            if (cached.isValid(worldStamps)) {
+                hits.increment();
+                return cached.visible;
+            }
+
+            invalidations.increment();
+        }
+
+        misses.increment();
+        Result result = trace(world, worldStamps, fromX, fromY, fromZ, toX, toY, toZ);
+        synchronized (results) {
+            results.put(key, result);
+        }
+
+        return result.visible;
+    }
+
+    /**
+     * Invalidate the results whose ray
+     * crossed the block chunk
+     *
+     * @param block the changed block
+     */
+    public void invalidate(final Block block) {
+        invalidate(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    /**
+     * Invalidate the results whose ray
+     * crossed the chunk
+     *
+     * @param world the chunk world
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     */
+    public void invalidate(final World world, final int chunkX, final int chunkZ) {
+        AtomicLongArray worldStamps = stamps.get(world.getUID());
+        if (worldStamps != null) worldStamps.incrementAndGet(bucket(chunkX, chunkZ));
+    }
+
+    /**
+     * Drop the results of a world
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        UUID worldId = world.getUID();
+        stamps.remove(worldId);
+
+        synchronized (results) {
+            results.keySet().removeIf((key) -> key.world.equals(worldId));
+        }
+    }
+
+    /**
+     * Drop all the cached results
+     */
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Get the amount of cached
+     * results
+     *
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    /**
+     * Get the amount of queries answered
+     * from the cache
+     *
+     * @return the cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the amount of queries which
+     * had to be traced
+     *
+     * @return the cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the amount of cached results
+     * which were found, but had to be traced
+     * again because a block changed
+     *
+     * @return the cache invalidations
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    /**
+     * Get the ratio of queries answered
+     * from the cache
+     *
+     * @return the cache hit rate, from 0 to 1
+     */
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long total = hits + misses.sum();
+        if (total == 0) return 0;
+
+        return (double) hits / total;
+    }
+
+    /**
+     * Trace the ray, remembering the stamp of
+     * the chunks it crosses
+     *
+     * @return the trace result
+     */
+    private Result trace(final World world, final AtomicLongArray worldStamps,
+                         final double fromX, final double fromY, final double fromZ,
+                         final double toX, final double toY, final double toZ) {
+        Result result = new Result();
+
+        /*
+        The stamp of each chunk is read before its
+        blocks, so a change during the trace invalidates
+        the result
+         */
+        result.visible = sight.traverse(fromX, fromY, fromZ, toX, toY, toZ, (x, y, z) -> {
+            result.cross(bucket(x >> 4, z >> 4), worldStamps);
+            return !sight.isBlocking(world, x, y, z);
+        });
+
+        return result;
+    }
+
+    /**
+     * Quantize a coordinate
+     *
+     * @param coordinate the coordinate
+     * @return the quantized coordinate
+     */
+    private int quantize(final double coordinate) {
+        return (int) Math.floor(coordinate * quantization);
+    }
+
+    /**
+     * Get the stamp bucket of a chunk. Chunks
+     * sharing a bucket invalidate each other, which
+     * only causes extra traces
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the chunk stamp bucket
+     */
+    private static int bucket(final int chunkX, final int chunkZ) {
+        int hash = chunkX * 0x1F1F1F1F ^ chunkZ * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (STAMP_BUCKETS - 1);
+    }
+
+    /**
+     * Represents a cache key
+     */
+    private final static class Key {
+
+        private final UUID world;
+        private final int fromX, fromY, fromZ, toX, toY, toZ;
+        private final int hash;
+
+        private Key(final UUID world, final int fromX, final int fromY, final int fromZ,
+                    final int toX, final int toY, final int toZ) {
+            this.world = world;
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.fromZ = fromZ;
+            this.toX = toX;
+            this.toY = toY;
+            this.toZ = toZ;
+
+            int hash = world.hashCode();
+            hash = hash * 31 + fromX;
+            hash = hash * 31 + fromY;
+            hash = hash * 31 + fromZ;
+            hash = hash * 31 + toX;
+            hash = hash * 31 + toY;
+            this.hash = hash * 31 + toZ;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Key)) return false;
+
+            Key key = (Key) other;
+            return fromX == key.fromX && fromY == key.fromY && fromZ == key.fromZ &&
+                    toX == key.toX && toY == key.toY && toZ == key.toZ && world.equals(key.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Represents a traced result, and
+     * the stamps of the chunks its ray
+     * crossed
+     */
+    private final static class Result {
+
+        private boolean visible;
+        private int[] buckets = new int[4];
+        private long[] stamps = new long[4];
+        private int size;
+
+        /**
+         * Remember the stamp of a crossed
+         * chunk bucket
+         *
+         * @param bucket the chunk bucket
+         * @param worldStamps the world stamps
+         */
+        private void cross(final int bucket, final AtomicLongArray worldStamps) {
+            if (size > 0 && buckets[size - 1] == bucket) return;
+
+            if (size == buckets.length) {
+                buckets = Arrays.copyOf(buckets, size << 1);
+                stamps = Arrays.copyOf(stamps, size << 1);
+            }
+
+            buckets[size] = bucket;
+            stamps[size++] = worldStamps.get(bucket);
+        }
+
+        /**
+         * Get if none of the crossed chunks
+         * has been modified
+         *
+         * @param worldStamps the world stamps
+         * @return if the result is still valid
+         */
+        private boolean isValid(final AtomicLongArray worldStamps) {
+            for (int i = 0; i < size; i++) {
+                if (worldStamps.get(buckets[i]) != stamps[i]) return false;
+            }
+
+            return true;
+        }
+    }
+}
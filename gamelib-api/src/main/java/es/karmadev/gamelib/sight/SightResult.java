@@ -0,0 +1,22 @@
+package es.karmadev.gamelib.sight;
+
+/**
+ * Represents the result of a line
+ * of sight traced over {@link SightSnapshot chunk snapshots}
+ */
+public enum SightResult {
+    /**
+     * Nothing blocks the sight
+     */
+    VISIBLE,
+    /**
+     * A block blocks the sight
+     */
+    BLOCKED,
+    /**
+     * The ray crossed a chunk which is not
+     * captured before any block blocked the
+     * sight, so it must be traced on the world
+     */
+    UNKNOWN
+}
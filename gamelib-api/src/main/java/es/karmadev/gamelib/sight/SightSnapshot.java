@@ -0,0 +1,180 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshots of the chunks around the players,
+ * which let the {@link LineOfSight line of sight}
+ * run outside the main thread. The snapshots are
+ * {@link #update(World, Set) updated} once per tick on
+ * the main thread, capturing the chunks which came
+ * into range and the chunks {@link #markDirty(World, int, int) modified}
+ * since the last update
+ */
+public final class SightSnapshot {
+
+    /**
+     * The default radius, in chunks, of
+     * the captured area around each player
+     */
+    public final static int DEFAULT_RADIUS = 3;
+
+    private final Map<UUID, Map<Long, ChunkSnapshot>> worlds = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Long>> dirty = new ConcurrentHashMap<>();
+
+    /**
+     * Get the captured snapshot of a chunk
+     *
+     * @param world the chunk world
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the chunk snapshot, or null if the
+     * chunk is not captured
+     */
+    @Nullable
+    public ChunkSnapshot getChunk(final UUID world, final int chunkX, final int chunkZ) {
+        Map<Long, ChunkSnapshot> chunks = worlds.get(world);
+        if (chunks == null) return null;
+
+        return chunks.get(chunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Get the captured type of a block
+     *
+     * @param world the block world
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the block type, or null if the block
+     * chunk is not captured
+     */
+    @Nullable
+    public Material getType(final UUID world, final int x, final int y, final int z) {
+        ChunkSnapshot chunk = getChunk(world, x >> 4, z >> 4);
+        if (chunk == null) return null;
+
+        return chunk.getBlockType(x & 15, y, z & 15);
+    }
+
+    /**
+     * Mark a chunk as modified, so it gets
+     * captured again on the next update
+     *
+     * @param world the chunk world
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     */
+    public void markDirty(final World world, final int chunkX, final int chunkZ) {
+        UUID worldId = world.getUID();
+        Map<Long, ChunkSnapshot> chunks = worlds.get(worldId);
+        if (chunks == null) return;
+
+        long key = chunkKey(chunkX, chunkZ);
+        if (chunks.containsKey(key)) {
+            dirty.computeIfAbsent(worldId, (id) -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    /**
+     * Update the snapshots of a world. The
+     * chunks which are no longer wanted are
+     * dropped, and the wanted chunks which are
+     * not captured or were modified are captured.
+     * Must run on the main thread
+     *
+     * @param world the world
+     * @param wanted the wanted chunk keys, as
+     *               packed by {@link #chunkKey(int, int)}
+     * @return the amount of captured chunks
+     */
+    public int update(final World world, final Set<Long> wanted) {
+        UUID worldId = world.getUID();
+        Map<Long, ChunkSnapshot> chunks = worlds.computeIfAbsent(worldId, (id) -> new ConcurrentHashMap<>());
+        Set<Long> modified = dirty.get(worldId);
+
+        chunks.keySet().retainAll(wanted);
+
+        int captured = 0;
+        for (long key : wanted) {
+            if (chunks.containsKey(key) && (modified == null || !modified.contains(key))) continue;
+
+            int chunkX = (int) (key >> 32);
+            int chunkZ = (int) key;
+            if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                chunks.remove(key);
+                continue;
+            }
+
+            chunks.put(key, world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+            captured++;
+        }
+
+        if (modified != null) modified.clear();
+        return captured;
+    }
+
+    /**
+     * Drop the snapshots of the worlds
+     * which are not in the set
+     *
+     * @param active the worlds to keep
+     */
+    public void retainWorlds(final Set<UUID> active) {
+        Iterator<UUID> iterator = worlds.keySet().iterator();
+        while (iterator.hasNext()) {
+            UUID worldId = iterator.next();
+            if (active.contains(worldId)) continue;
+
+            iterator.remove();
+            dirty.remove(worldId);
+        }
+    }
+
+    /**
+     * Drop the snapshots of a world
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        worlds.remove(world.getUID());
+        dirty.remove(world.getUID());
+    }
+
+    /**
+     * Get the amount of captured
+     * chunks
+     *
+     * @return the captured chunks
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Long, ChunkSnapshot> chunks : worlds.values()) {
+            size += chunks.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Pack the chunk coordinates into
+     * a single key
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the chunk key
+     */
+    public static long chunkKey(final int chunkX, final int chunkZ) {
+        return PlaygroundChunks.pack(chunkX, chunkZ);
+    }
+}
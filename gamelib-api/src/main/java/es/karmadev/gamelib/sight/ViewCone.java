@@ -0,0 +1,173 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import org.bukkit.World;
+
+/**
+ * Represents the field of view of an
+ * entity, as a cone around where the entity
+ * is looking at. Testing a target against the
+ * cone takes a few multiplications, so targets
+ * outside the view can be rejected before any
+ * block is sampled
+ */
+public final class ViewCone {
+
+    /**
+     * The default angle between the look
+     * direction and the cone sides, in degrees
+     */
+    public final static double DEFAULT_HALF_ANGLE = 60;
+
+    /**
+     * The default max distance of
+     * the view
+     */
+    public final static double DEFAULT_RANGE = 64;
+
+    /**
+     * View cone with the default half
+     * angle and range
+     */
+    public final static ViewCone DEFAULT = new ViewCone(DEFAULT_HALF_ANGLE, DEFAULT_RANGE);
+
+    /**
+     * View cone which covers everything in
+     * front of the viewer, at any distance
+     */
+    public final static ViewCone FRONT = new ViewCone(90, Double.POSITIVE_INFINITY);
+
+    private final double halfAngle;
+    private final double range;
+
+    private final double cos;
+    private final double cosSquared;
+    private final double rangeSquared;
+
+    /**
+     * Initialize the view cone
+     *
+     * @param halfAngle the angle between the look direction
+     *                  and the cone sides, in degrees
+     * @param range the max distance of the view
+     */
+    public ViewCone(final double halfAngle, final double range) {
+        this.halfAngle = Math.max(0, Math.min(180, halfAngle));
+        this.range = Math.max(0, range);
+
+        this.cos = Math.cos(Math.toRadians(this.halfAngle));
+        this.cosSquared = cos * cos;
+        this.rangeSquared = this.range * this.range;
+    }
+
+    /**
+     * Get the angle between the look
+     * direction and the cone sides
+     *
+     * @return the half angle, in degrees
+     */
+    public double getHalfAngle() {
+        return halfAngle;
+    }
+
+    /**
+     * Get the max distance of
+     * the view
+     *
+     * @return the view range
+     */
+    public double getRange() {
+        return range;
+    }
+
+    /**
+     * Get if the target is inside the
+     * view cone of the viewer. The look direction
+     * is computed from the viewer rotation on every
+     * call, so testing many targets from the same viewer
+     * should use {@link #contains(Position3D, Vec3, Position3D)}
+     *
+     * @param viewer the viewer position, whose yaw
+     *               and pitch are the look direction
+     * @param target the target position
+     * @return if the target is inside the
+     * view cone
+     */
+    public boolean contains(final Position3D viewer, final Position3D target) {
+        return contains(viewer, look(viewer.getYaw(), viewer.getPitch()), target);
+    }
+
+    /**
+     * Get if the target is inside the
+     * view cone of the viewer
+     *
+     * @param viewer the viewer position
+     * @param look the unit look direction, see
+     *             {@link #look(float, float)}
+     * @param target the target position
+     * @return if the target is inside the
+     * view cone
+     */
+    public boolean contains(final Position3D viewer, final Vec3 look, final Position3D target) {
+        World world = viewer.getWorld();
+        if (world == null || !world.equals(target.getWorld())) return false;
+
+        return contains(viewer.getX(), viewer.getY(), viewer.getZ(),
+                look.getX(), look.getY(), look.getZ(),
+                target.getX(), target.getY(), target.getZ());
+    }
+
+    /**
+     * Get if the target is inside the
+     * view cone
+     *
+     * @param originX the cone origin X
+     * @param originY the cone origin Y
+     * @param originZ the cone origin Z
+     * @param lookX the unit look direction X
+     * @param lookY the unit look direction Y
+     * @param lookZ the unit look direction Z
+     * @param targetX the target X
+     * @param targetY the target Y
+     * @param targetZ the target Z
+     * @return if the target is inside the
+     * view cone
+     */
+    public boolean contains(final double originX, final double originY, final double originZ,
+                            final double lookX, final double lookY, final double lookZ,
+                            final double targetX, final double targetY, final double targetZ) {
+        double dX = targetX - originX;
+        double dY = targetY - originY;
+        double dZ = targetZ - originZ;
+
+        double distanceSquared = dX * dX + dY * dY + dZ * dZ;
+        if (distanceSquared > rangeSquared) return false;
+        if (distanceSquared == 0 || halfAngle >= 180) return true;
+
+        /*
+        Compares the squared dot product against the
+        squared cosine, so no square root is needed
+         */
+        double dot = lookX * dX + lookY * dY + lookZ * dZ;
+        if (cos >= 0) return dot >= 0 && dot * dot >= cosSquared * distanceSquared;
+
+        return dot >= 0 || dot * dot <= cosSquared * distanceSquared;
+    }
+
+    /**
+     * Get the unit look direction of
+     * a rotation
+     *
+     * @param yaw the rotation yaw, in degrees
+     * @param pitch the rotation pitch, in degrees
+     * @return the look direction
+     */
+    public static Vec3 look(final float yaw, final float pitch) {
+        double yawRadians = Math.toRadians(yaw);
+        double pitchRadians = Math.toRadians(pitch);
+        double cosPitch = Math.cos(pitchRadians);
+
+        return Vec3.of(-Math.sin(yawRadians) * cosPitch, -Math.sin(pitchRadians), Math.cos(yawRadians) * cosPitch);
+    }
+}
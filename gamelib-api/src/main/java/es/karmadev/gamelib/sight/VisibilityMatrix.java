@@ -0,0 +1,327 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.GameLib;
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Visibility between every pair of entities
+ * of a playground, stored as one bit per pair.
+ * <p>
+ * The chunks of the playground are captured once,
+ * on the main thread, and every ray is traced over
+ * those snapshots in parallel. Lines of sight are
+ * symmetric, so each pair is traced at most once,
+ * and pairs too far away, or out of both entities
+ * view cone, are not traced at all. Rays crossing a
+ * chunk which could not be captured are traced again
+ * on the main thread
+ */
+public final class VisibilityMatrix {
+
+    /**
+     * The default max distance between
+     * two entities which can see each other
+     */
+    public final static double DEFAULT_DISTANCE = 128;
+
+    /**
+     * The default view cone, which only limits
+     * the distance. Entities see each other in every
+     * direction, as {@link EngineEntity#canSee(EngineEntity)} does
+     */
+    public final static ViewCone DEFAULT_CONE = new ViewCone(180, DEFAULT_DISTANCE);
+
+    private final List<EngineEntity> entities;
+    private final Map<EngineEntity, Integer> indexes;
+    private final int words;
+    private final long[] bits;
+
+    /**
+     * Initialize the visibility matrix
+     *
+     * @param entities the matrix entities
+     * @param words the words of each matrix row
+     * @param bits the matrix bits
+     */
+    private VisibilityMatrix(final List<EngineEntity> entities, final int words, final long[] bits) {
+        this.entities = entities;
+        this.words = words;
+        this.bits = bits;
+
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < entities.size(); i++) {
+            indexes.put(entities.get(i), i);
+        }
+    }
+
+    /**
+     * Compute the visibility between the
+     * entities of the playground, with the default
+     * line of sight and {@link #DEFAULT_CONE view cone}
+     *
+     * @param playground the playground
+     * @return the visibility matrix
+     */
+    public static CompletableFuture<VisibilityMatrix> compute(final Playground playground) {
+        return compute(playground, LineOfSight.DEFAULT, DEFAULT_CONE);
+    }
+
+    /**
+     * Compute the visibility between the
+     * entities of the playground. The entities
+     * positions and the playground chunks are captured
+     * on the main thread, and the rays are traced
+     * outside of it
+     *
+     * @param playground the playground
+     * @param sight the line of sight to trace
+     * @param cone the view cone of the entities. Its
+     *             range is the max distance between two
+     *             entities which can see each other
+     * @return the visibility matrix
+     */
+    public static CompletableFuture<VisibilityMatrix> compute(final Playground playground, final LineOfSight sight,
+                                                              final ViewCone cone) {
+        return PlaygroundChunks.capture(() -> {
+            World world = playground.getWorld();
+            List<EngineEntity> entities = new ArrayList<>(playground.getEntities());
+            double[] positions = new double[entities.size() * 6];
+            for (int i = 0; i < entities.size(); i++) {
+                Position3D position = entities.get(i).getPosition();
+                Vec3 look = ViewCone.look(position.getYaw(), position.getPitch());
+
+                int offset = i * 6;
+                positions[offset] = position.getX();
+                positions[offset + 1] = position.getY();
+                positions[offset + 2] = position.getZ();
+                positions[offset + 3] = look.getX();
+                positions[offset + 4] = look.getY();
+                positions[offset + 5] = look.getZ();
+            }
+
+            /*
+            The bounding box is convex, so every ray
+            between two entities inside the playground
+            stays inside its chunks
+             */
+            BoundingBox box = playground.getBoundingBox();
+            Set<Long> chunks = new HashSet<>();
+            for (long chunk : PlaygroundChunks.covering(box)) chunks.add(chunk);
+
+            SightSnapshot snapshot = new SightSnapshot();
+            snapshot.update(world, chunks);
+
+            return () -> {
+                Queue<int[]> unknown = new ConcurrentLinkedQueue<>();
+                VisibilityMatrix matrix = trace(entities, positions, snapshot, world, sight, cone, unknown);
+
+                return matrix.resolve(unknown, positions, world, sight);
+            };
+        }, ForkJoinPool.commonPool()).thenCompose((matrix) -> matrix);
+    }
+
+    /**
+     * Get the matrix entities, in
+     * matrix order
+     *
+     * @return the matrix entities
+     */
+    public List<EngineEntity> getEntities() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    /**
+     * Get the matrix index of an
+     * entity
+     *
+     * @param entity the entity
+     * @return the entity index, or -1 if the
+     * entity is not in the matrix
+     */
+    public int indexOf(final EngineEntity entity) {
+        return indexes.getOrDefault(entity, -1);
+    }
+
+    /**
+     * Get the amount of entities
+     * in the matrix
+     *
+     * @return the matrix size
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    /**
+     * Get if the viewer can see
+     * the target
+     *
+     * @param viewer the viewer index
+     * @param target the target index
+     * @return if the viewer can see the target
+     */
+    public boolean canSee(final int viewer, final int target) {
+        return (bits[viewer * words + (target >>> 6)] & 1L << target) != 0;
+    }
+
+    /**
+     * Get if the viewer can see
+     * the target
+     *
+     * @param viewer the viewer
+     * @param target the target
+     * @return if the viewer can see the target. Entities
+     * which are not in the matrix see nothing
+     */
+    public boolean canSee(final EngineEntity viewer, final EngineEntity target) {
+        int viewerIndex = indexOf(viewer);
+        int targetIndex = indexOf(target);
+        if (viewerIndex == -1 || targetIndex == -1) return false;
+
+        return canSee(viewerIndex, targetIndex);
+    }
+
+    /**
+     * Get the entities the viewer
+     * can see
+     *
+     * @param viewer the viewer
+     * @return the visible entities
+     */
+    public List<EngineEntity> getVisible(final EngineEntity viewer) {
+        int index = indexOf(viewer);
+        if (index == -1) return Collections.emptyList();
+
+        List<EngineEntity> visible = new ArrayList<>();
+        int offset = index * words;
+        for (int word = 0; word < words; word++) {
+            long value = bits[offset + word];
+            while (value != 0) {
+                visible.add(entities.get((word << 6) + Long.numberOfTrailingZeros(value)));
+                value &= value - 1;
+            }
+        }
+
+        return visible;
+    }
+
+    /**
+     * Trace the visibility between
+     * every pair of entities
+     *
+     * @param unknown the pairs whose ray crossed a
+     *                chunk which is not captured, with
+     *                the directions to set if visible
+     * @return the visibility matrix
+     */
+    private static VisibilityMatrix trace(final List<EngineEntity> entities, final double[] positions,
+                                          final SightSnapshot snapshot, final World world, final LineOfSight sight,
+                                          final ViewCone cone, final Queue<int[]> unknown) {
+        int size = entities.size();
+        int words = (size + 63) >>> 6;
+        AtomicLongArray bits = new AtomicLongArray(size * words);
+
+        IntStream.range(0, size).parallel().forEach((i) -> {
+            int a = i * 6;
+            for (int j = i + 1; j < size; j++) {
+                int b = j * 6;
+                boolean forward = cone.contains(positions[a], positions[a + 1], positions[a + 2],
+                        positions[a + 3], positions[a + 4], positions[a + 5],
+                        positions[b], positions[b + 1], positions[b + 2]);
+                boolean backward = cone.contains(positions[b], positions[b + 1], positions[b + 2],
+                        positions[b + 3], positions[b + 4], positions[b + 5],
+                        positions[a], positions[a + 1], positions[a + 2]);
+
+                if (!forward && !backward) continue;
+                SightResult result = sight.trace(snapshot, world, positions[a], positions[a + 1], positions[a + 2],
+                        positions[b], positions[b + 1], positions[b + 2]);
+                if (result == SightResult.BLOCKED) continue;
+                if (result == SightResult.UNKNOWN) {
+                    unknown.add(new int[]{i, j, (forward ? 1 : 0) | (backward ? 2 : 0)});
+                    continue;
+                }
+
+                if (forward) set(bits, i * words + (j >>> 6), 1L << j);
+                if (backward) set(bits, j * words + (i >>> 6), 1L << i);
+            }
+        });
+
+        long[] values = new long[bits.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = bits.get(i);
+        }
+
+        return new VisibilityMatrix(entities, words, values);
+    }
+
+    /**
+     * Trace again, on the main thread, the
+     * pairs whose ray crossed a chunk which
+     * is not captured
+     *
+     * @param unknown the pairs to trace
+     * @param positions the entities positions
+     * @param world the world
+     * @param sight the line of sight to trace
+     * @return the visibility matrix
+     */
+    private CompletableFuture<VisibilityMatrix> resolve(final Queue<int[]> unknown, final double[] positions,
+                                                        final World world, final LineOfSight sight) {
+        if (unknown.isEmpty()) return CompletableFuture.completedFuture(this);
+
+        CompletableFuture<VisibilityMatrix> future = new CompletableFuture<>();
+        GameLib lib = GameLib.getInstance();
+        if (lib == null) {
+            future.completeExceptionally(new IllegalStateException("Cannot trace uncaptured chunks outside the main thread"));
+            return future;
+        }
+
+        lib.runSync(() -> {
+            try {
+                for (int[] pair : unknown) {
+                    int a = pair[0] * 6;
+                    int b = pair[1] * 6;
+                    if (!sight.canSee(world, positions[a], positions[a + 1], positions[a + 2],
+                            positions[b], positions[b + 1], positions[b + 2])) continue;
+
+                    if ((pair[2] & 1) != 0) bits[pair[0] * words + (pair[1] >>> 6)] |= 1L << pair[1];
+                    if ((pair[2] & 2) != 0) bits[pair[1] * words + (pair[0] >>> 6)] |= 1L << pair[0];
+                }
+
+                future.complete(this);
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Set the bits of a word, which might
+     * be shared with other rows being traced
+     *
+     * @param bits the matrix bits
+     * @param index the word index
+     * @param mask the bits to set
+     */
+    private static void set(final AtomicLongArray bits, final int index, final long mask) {
+        long current;
+        do {
+            current = bits.get(index);
+        } while (!bits.compareAndSet(index, current, current | mask));
+    }
+}
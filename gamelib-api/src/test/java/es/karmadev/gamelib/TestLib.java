@@ -0,0 +1,119 @@
+package es.karmadev.gamelib;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.entity.hitbox.HitboxEngine;
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.region.GameShape;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.edit.JournalRecorder;
+import es.karmadev.gamelib.region.index.PlaygroundRegistry;
+import es.karmadev.gamelib.region.track.RegionTracker;
+import es.karmadev.gamelib.sight.SightCache;
+import es.karmadev.gamelib.sight.SightSnapshot;
+import es.karmadev.gamelib.storage.StorageDriver;
+import org.bukkit.World;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Queue;
+
+/**
+ * Game library for the tests. Async tasks
+ * run at once, and sync tasks are queued until
+ * the test runs a {@link #tick() tick}
+ */
+public final class TestLib extends GameLib {
+
+    private final static TestLib INSTANCE = new TestLib();
+
+    private final Queue<Runnable> sync = new ArrayDeque<>();
+
+    private TestLib() {
+        registerAsInstance();
+    }
+
+    public static TestLib get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run the sync tasks queued before
+     * this tick
+     *
+     * @return the amount of tasks ran
+     */
+    public int tick() {
+        int tasks = sync.size();
+        for (int i = 0; i < tasks; i++) sync.poll().run();
+
+        return tasks;
+    }
+
+    /**
+     * Drop the queued sync tasks
+     */
+    public void reset() {
+        sync.clear();
+    }
+
+    @Override
+    public void runAsync(final Runnable task) {
+        task.run();
+    }
+
+    @Override
+    public void runSync(final Runnable task) {
+        sync.add(task);
+    }
+
+    @Override
+    public PlayerManager getPlayerManager() {
+        return null;
+    }
+
+    @Override
+    public StorageDriver getStorageDriver() {
+        return null;
+    }
+
+    @Override
+    public PlaygroundRegistry getPlaygroundRegistry() {
+        return null;
+    }
+
+    @Override
+    public RegionTracker getRegionTracker() {
+        return null;
+    }
+
+    @Override
+    public JournalRecorder getJournalRecorder() {
+        return null;
+    }
+
+    @Override
+    public SightCache getSightCache() {
+        return null;
+    }
+
+    @Override
+    public SightSnapshot getSightSnapshot() {
+        return null;
+    }
+
+    @Override
+    public HitboxEngine getHitboxEngine() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends EngineEntity> getEntities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Playground createGround(final GameShape shape, final World world, final Position3D... positions) {
+        throw new UnsupportedOperationException();
+    }
+}
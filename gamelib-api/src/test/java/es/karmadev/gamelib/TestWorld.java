@@ -0,0 +1,187 @@
+package es.karmadev.gamelib;
+
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * World for the tests. Block types and states
+ * are read from maps keyed by the {@link BlockPos#pack(int, int, int) packed}
+ * position, missing blocks are air, and only the
+ * chunks marked as loaded are loaded. Calls to
+ * methods which are not faked fail
+ */
+public final class TestWorld {
+
+    private final UUID id = UUID.randomUUID();
+    private final Map<Long, Material> types = new HashMap<>();
+    private final Map<Long, BlockData> states = new HashMap<>();
+    private final Set<Long> loaded = new HashSet<>();
+
+    private final World world;
+
+    /**
+     * Initialize the test world
+     */
+    public TestWorld() {
+        world = (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class[]{World.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUID":
+                            return id;
+                        case "getName":
+                        case "toString":
+                            return "world-" + id;
+                        case "getMinHeight":
+                            return -64;
+                        case "getMaxHeight":
+                            return 320;
+                        case "getType":
+                            return getType((int) args[0], (int) args[1], (int) args[2]);
+                        case "getBlockAt":
+                            return block((int) args[0], (int) args[1], (int) args[2]);
+                        case "isChunkLoaded":
+                            return loaded.contains(PlaygroundChunks.pack((int) args[0], (int) args[1]));
+                        case "getChunkAt":
+                            return chunk((int) args[0], (int) args[1]);
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return id.hashCode();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Get the faked world
+     *
+     * @return the world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Set the type of a block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @param type the block type
+     * @return the test world
+     */
+    public TestWorld setType(final int x, final int y, final int z, final Material type) {
+        types.put(BlockPos.pack(x, y, z), type);
+        return this;
+    }
+
+    /**
+     * Get the type of a block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the block type
+     */
+    public Material getType(final int x, final int y, final int z) {
+        return types.getOrDefault(BlockPos.pack(x, y, z), Material.AIR);
+    }
+
+    /**
+     * Set the state of a block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @param state the block state
+     * @return the test world
+     */
+    public TestWorld setState(final int x, final int y, final int z, final BlockData state) {
+        states.put(BlockPos.pack(x, y, z), state);
+        return this;
+    }
+
+    /**
+     * Get the state of a block
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the block state, or null if
+     * it was never set
+     */
+    public BlockData getState(final int x, final int y, final int z) {
+        return states.get(BlockPos.pack(x, y, z));
+    }
+
+    /**
+     * Mark chunks as loaded
+     *
+     * @param chunks the chunk coordinates, as
+     *               X and Z pairs
+     * @return the test world
+     */
+    public TestWorld load(final int... chunks) {
+        for (int i = 0; i + 1 < chunks.length; i += 2) {
+            loaded.add(PlaygroundChunks.pack(chunks[i], chunks[i + 1]));
+        }
+
+        return this;
+    }
+
+    private Block block(final int x, final int y, final int z) {
+        return (Block) Proxy.newProxyInstance(Block.class.getClassLoader(), new Class[]{Block.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getWorld":
+                            return world;
+                        case "getX":
+                            return x;
+                        case "getY":
+                            return y;
+                        case "getZ":
+                            return z;
+                        case "getType":
+                            return getType(x, y, z);
+                        case "getBlockData":
+                            return getState(x, y, z);
+                        case "setBlockData":
+                            setState(x, y, z, (BlockData) args[0]);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private Chunk chunk(final int chunkX, final int chunkZ) {
+        return (Chunk) Proxy.newProxyInstance(Chunk.class.getClassLoader(), new Class[]{Chunk.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getChunkSnapshot")) throw new UnsupportedOperationException(method.getName());
+                    return snapshot(chunkX << 4, chunkZ << 4);
+                });
+    }
+
+    private ChunkSnapshot snapshot(final int fromX, final int fromZ) {
+        Map<Long, Material> captured = new HashMap<>(types);
+        return (ChunkSnapshot) Proxy.newProxyInstance(ChunkSnapshot.class.getClassLoader(), new Class[]{ChunkSnapshot.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getBlockType")) throw new UnsupportedOperationException(method.getName());
+                    return captured.getOrDefault(BlockPos.pack(fromX + (int) args[0], (int) args[1], fromZ + (int) args[2]), Material.AIR);
+                });
+    }
+}
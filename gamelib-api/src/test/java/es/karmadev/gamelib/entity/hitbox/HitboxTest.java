@@ -0,0 +1,91 @@
+package es.karmadev.gamelib.entity.hitbox;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HitboxTest {
+
+    @Test
+    void testAxisParallel() {
+        //Unit box from 0 to 1 on every axis
+        assertEquals(2, Hitbox.intersect(-2, 0.5, 0.5, 1, 0, 0, 10, 0, 0, 0, 1, 1, 1), 1e-9);
+        assertEquals(3, Hitbox.intersect(0.5, 4, 0.5, 0, -1, 0, 10, 0, 0, 0, 1, 1, 1), 1e-9);
+        assertEquals(1, Hitbox.intersect(0.5, 0.5, -2, 0, 0, 2, 10, 0, 0, 0, 1, 1, 1), 1e-9);
+
+        //Parallel rays outside the slab never hit
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersect(-2, 1.5, 0.5, 1, 0, 0, 10, 0, 0, 0, 1, 1, 1));
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersect(0.5, 4, -0.1, 0, -1, 0, 10, 0, 0, 0, 1, 1, 1));
+
+        //Rays along a box face still hit it
+        assertEquals(2, Hitbox.intersect(-2, 1, 0.5, 1, 0, 0, 10, 0, 0, 0, 1, 1, 1), 1e-9);
+    }
+
+    @Test
+    void testInside() {
+        assertEquals(0, Hitbox.intersect(0.5, 0.5, 0.5, 1, 0, 0, 10, 0, 0, 0, 1, 1, 1));
+        assertEquals(0, Hitbox.intersect(0.5, 0.5, 0.5, -1, 2, 3, 10, 0, 0, 0, 1, 1, 1));
+        assertEquals(0, Hitbox.intersect(0, 0, 0, 0, 0, 1, 10, 0, 0, 0, 1, 1, 1));
+    }
+
+    @Test
+    void testMiss() {
+        //Pointing away from the box
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersect(-2, 0.5, 0.5, -1, 0, 0, 10, 0, 0, 0, 1, 1, 1));
+
+        //Passing by a corner
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersect(-2, 0.5, -0.9, 1, 0, 1, 10, 0, 0, 0, 1, 1, 1));
+        assertEquals(2, Hitbox.intersect(-2, 0.5, -1.1, 1, 0, 1, 10, 0, 0, 0, 1, 1, 1), 1e-9);
+
+        //Diagonal ray through the box
+        double distance = Hitbox.intersect(-1, -1, -1, 1, 1, 1, 10, 0, 0, 0, 1, 1, 1);
+        assertEquals(1, distance, 1e-9);
+    }
+
+    @Test
+    void testMaxDistance() {
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersect(-2, 0.5, 0.5, 1, 0, 0, 1.9, 0, 0, 0, 1, 1, 1));
+        assertEquals(2, Hitbox.intersect(-2, 0.5, 0.5, 1, 0, 0, 2, 0, 0, 0, 1, 1, 1), 1e-9);
+
+        //The distance is measured in direction lengths
+        assertEquals(1, Hitbox.intersect(-2, 0.5, 0.5, 2, 0, 0, 1, 0, 0, 0, 1, 1, 1), 1e-9);
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersect(-2, 0.5, 0.5, 2, 0, 0, 0.9, 0, 0, 0, 1, 1, 1));
+
+        //Starting inside hits even with no length
+        assertEquals(0, Hitbox.intersect(0.5, 0.5, 0.5, 1, 0, 0, 0, 0, 0, 0, 1, 1, 1));
+    }
+
+    @Test
+    void testBody() {
+        Hitbox hitbox = new Hitbox(0.5, 0.5, 0, 1.6, 0.6, 1.8);
+
+        //The body is centered on the entity position, and rises from its feet
+        assertEquals(4.7, hitbox.intersectBody(10, 64, 10, 5, 65, 10, 1, 0, 0, 10), 1e-9);
+        assertEquals(Hitbox.NO_HIT, hitbox.intersectBody(10, 64, 10, 5, 65.9, 10, 1, 0, 0, 10));
+        assertEquals(Hitbox.NO_HIT, hitbox.intersectBody(10, 64, 10, 5, 63.9, 10, 1, 0, 0, 10));
+        assertEquals(hitbox.intersectBody(10, 64, 10, 5, 65, 10, 1, 0, 0, 10),
+                Hitbox.intersectBody(10, 64, 10, 0.6, 1.8, 5, 65, 10, 1, 0, 0, 10));
+    }
+
+    @Test
+    void testHead() {
+        Hitbox hitbox = new Hitbox(0.5, 0.5, 0.25, 1.5, 0.6, 1.8);
+
+        //Looking south, the head is pushed towards positive Z
+        assertEquals(5, hitbox.intersectHead(0, 0, 0, 0, 0, 1.5, -5, 0, 0, 1, 10), 1e-9);
+        assertEquals(Hitbox.NO_HIT, hitbox.intersectHead(0, 0, 0, 0, 0, 1.1, -5, 0, 0, 1, 10));
+
+        //Looking north, the head is pushed towards negative Z
+        assertEquals(4.5, hitbox.intersectHead(0, 0, 0, 180, 0, 1.5, -5, 0, 0, 1, 10), 1e-9);
+
+        //Looking west, the head is pushed towards negative X
+        assertEquals(4.75, hitbox.intersectHead(0, 0, 0, 90, -0.4, 1.5, -5, 0, 0, 1, 10), 1e-9);
+        assertEquals(Hitbox.NO_HIT, hitbox.intersectHead(0, 0, 0, 90, 0.1, 1.5, -5, 0, 0, 1, 10));
+
+        //A lower eye height lowers the head
+        assertEquals(Hitbox.NO_HIT, Hitbox.intersectHead(0, 0, 0, 0, 0.5, 0.5, 0.25, 0.4,
+                0, 1.5, -5, 0, 0, 1, 10));
+        assertEquals(5, Hitbox.intersectHead(0, 0, 0, 0, 0.5, 0.5, 0.25, 0.4,
+                0, 0.4, -5, 0, 0, 1, 10), 1e-9);
+    }
+}
@@ -22,6 +22,22 @@ class AreaPositionTest {
         assertNotNull(positions[positions.length - 1]);
     }
 
+    @Test
+    void testAreaVisit() {
+        Position3D position = new Position3D(null, 0, 0, 0);
+        AreaPosition area = position.toArea(20);
+
+        int[] visited = {0};
+        assertTrue(area.forEachContent((x, y, z) -> {
+            visited[0]++;
+            return true;
+        }));
+
+        assertEquals(area.getContentsSize(), visited[0]);
+        assertEquals(area.getContents().length, visited[0]);
+        assertFalse(area.forEachContent((x, y, z) -> false));
+    }
+
     @Test
     void testPosContains() {
         Position3D position = new Position3D(null, 0, 0, 0);
@@ -52,4 +68,29 @@ class AreaPositionTest {
         assertFalse(area.contains(otherArea));
         assertTrue(area.collidesWith(otherArea));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAreaCrossing() {
+        AreaPosition horizontal = new AreaPosition(null, 10, 1, 1, -10, -1, -1);
+        AreaPosition vertical = new AreaPosition(null, 1, 10, 1, -1, -10, -1);
+
+        assertTrue(horizontal.collidesWith(vertical));
+        assertFalse(horizontal.collidesWith(new AreaPosition(null, 1, 10, 20, -1, -10, 15)));
+    }
+
+    @Test
+    void testAreaSweep() {
+        AreaPosition projectile = new Position3D(null, 0, 0, 0).toArea(1);
+        AreaPosition wall = new AreaPosition(null, 11, 5, 5, 10, -5, -5);
+        AreaPosition far = new AreaPosition(null, 31, 5, 5, 30, -5, -5);
+
+        assertEquals(0.475, projectile.sweep(Vec3.of(20, 0, 0), wall), 1e-9);
+        assertEquals(AreaPosition.NO_IMPACT, projectile.sweep(Vec3.of(5, 0, 0), wall));
+        assertEquals(AreaPosition.NO_IMPACT, projectile.sweep(Vec3.of(-20, 0, 0), wall));
+        assertEquals(0.475, projectile.sweep(Vec3.of(10, 0, 0), wall, Vec3.of(-10, 0, 0)), 1e-9);
+
+        double[] times = new double[2];
+        assertEquals(0, projectile.sweep(Vec3.of(40, 0, 0), new AreaPosition[]{wall, far}, times));
+        assertTrue(times[0] < times[1]);
+    }
+}
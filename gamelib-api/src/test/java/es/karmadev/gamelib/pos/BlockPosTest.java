@@ -0,0 +1,36 @@
+package es.karmadev.gamelib.pos;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockPosTest {
+
+    @Test
+    void testPack() {
+        BlockPos position = BlockPos.of(-30000000, -64, 29999999);
+
+        assertEquals(-30000000, position.getX());
+        assertEquals(-64, position.getY());
+        assertEquals(29999999, position.getZ());
+    }
+
+    @Test
+    void testNegative() {
+        long packed = BlockPos.pack(-1, -2048, -1);
+
+        assertEquals(-1, BlockPos.unpackX(packed));
+        assertEquals(-2048, BlockPos.unpackY(packed));
+        assertEquals(-1, BlockPos.unpackZ(packed));
+    }
+
+    @Test
+    void testConversion() {
+        Position3D position = new Position3D(null, 10.5, -3.2, -7.9);
+        BlockPos block = position.toBlockPos();
+
+        assertEquals(BlockPos.of(10, -4, -8), block);
+        assertEquals(Vec3.of(10.5, -3.2, -7.9), position.toVec3());
+        assertEquals(block, position.toVec3().toBlockPos());
+    }
+}
@@ -0,0 +1,236 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.TestLib;
+import es.karmadev.gamelib.TestWorld;
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.shape.CuboidGround;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeJournalTest {
+
+    private final TestLib lib = TestLib.get();
+
+    @Test
+    void testRecord() {
+        ChangeJournal journal = new ChangeJournal(ground(null, 0, 0, 0, 16));
+        BlockData stone = state("stone");
+        BlockData dirt = state("dirt");
+
+        assertTrue(journal.isEmpty());
+        assertTrue(journal.record(1, 2, 3, stone));
+        assertFalse(journal.record(1, 2, 3, dirt));
+        assertFalse(journal.record(16, 2, 3, dirt));
+        assertFalse(journal.record(-1, 2, 3, dirt));
+
+        assertSame(stone, journal.getOriginal(1, 2, 3));
+        assertNull(journal.getOriginal(3, 2, 1));
+        assertEquals(1, journal.size());
+    }
+
+    @Test
+    void testProbing() {
+        ChangeJournal journal = new ChangeJournal(ground(null, -8, 0, -8, 16));
+        Map<Long, BlockData> expected = new HashMap<>();
+        Random random = new Random(13);
+
+        for (int i = 0; i < 3000; i++) {
+            int x = random.nextInt(16) - 8;
+            int y = random.nextInt(16);
+            int z = random.nextInt(16) - 8;
+            BlockData state = state("state" + i);
+
+            long key = BlockPos.pack(x, y, z);
+            assertEquals(!expected.containsKey(key), journal.record(x, y, z, state));
+            expected.putIfAbsent(key, state);
+        }
+
+        assertEquals(expected.size(), journal.size());
+        for (int x = -8; x < 8; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = -8; z < 8; z++) {
+                    assertSame(expected.get(BlockPos.pack(x, y, z)), journal.getOriginal(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testResize() {
+        ChangeJournal journal = new ChangeJournal(ground(null, 0, 0, 0, 64));
+        BlockData state = state("stone");
+
+        int recorded = 0;
+        for (int x = 0; x < 64; x++) {
+            for (int z = 0; z < 64; z++) {
+                assertTrue(journal.record(x, 0, z, state));
+                assertEquals(++recorded, journal.size());
+            }
+        }
+
+        for (int x = 0; x < 64; x++) {
+            for (int z = 0; z < 64; z++) {
+                assertFalse(journal.record(x, 0, z, state("dirt")));
+                assertSame(state, journal.getOriginal(x, 0, z));
+            }
+        }
+
+        assertEquals(64 * 64, journal.size());
+    }
+
+    @Test
+    void testClear() {
+        ChangeJournal journal = new ChangeJournal(ground(null, 0, 0, 0, 16));
+        BlockData stone = state("stone");
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                journal.record(x, 1, z, stone);
+            }
+        }
+
+        journal.clear();
+        assertTrue(journal.isEmpty());
+        assertNull(journal.getOriginal(3, 1, 3));
+
+        BlockData dirt = state("dirt");
+        assertTrue(journal.record(3, 1, 3, dirt));
+        assertSame(dirt, journal.getOriginal(3, 1, 3));
+        assertEquals(1, journal.size());
+    }
+
+    @Test
+    void testRollback() throws Exception {
+        lib.reset();
+        TestWorld world = new TestWorld();
+        ChangeJournal journal = new ChangeJournal(ground(world.getWorld(), 0, 0, 0, 16));
+        BlockData air = state("air");
+        BlockData stone = state("stone");
+        BlockData dirt = state("dirt");
+
+        for (int x = 0; x < 4; x++) {
+            journal.record(x, 0, 0, air);
+            world.setState(x, 0, 0, stone);
+        }
+
+        EditTask task = journal.rollback(1, TimeUnit.NANOSECONDS, false);
+        assertSame(task, journal.rollback());
+
+        lib.tick();
+        assertSame(air, world.getState(3, 0, 0));
+        assertSame(stone, world.getState(0, 0, 0));
+
+        /*
+        Blocks changed while the rollback runs
+        keep their original state
+         */
+        assertFalse(journal.record(0, 0, 0, dirt));
+        assertTrue(journal.record(5, 0, 0, dirt));
+        assertEquals(5, journal.size());
+
+        while (!task.isDone()) lib.tick();
+        assertEquals(4L, (long) task.getFuture().get());
+        for (int x = 0; x < 4; x++) {
+            assertSame(air, world.getState(x, 0, 0));
+            assertNull(journal.getOriginal(x, 0, 0));
+        }
+
+        assertEquals(1, journal.size());
+        assertSame(dirt, journal.getOriginal(5, 0, 0));
+        assertNotSame(task, journal.rollback());
+    }
+
+    @Test
+    void testChangeAfterRestore() throws Exception {
+        lib.reset();
+        TestWorld world = new TestWorld();
+        ChangeJournal journal = new ChangeJournal(ground(world.getWorld(), 0, 0, 0, 16));
+        BlockData air = state("air");
+        BlockData stone = state("stone");
+        BlockData dirt = state("dirt");
+
+        for (int x = 0; x < 4; x++) {
+            journal.record(x, 0, 0, air);
+            world.setState(x, 0, 0, stone);
+        }
+
+        EditTask task = journal.rollback(1, TimeUnit.NANOSECONDS, false);
+        lib.tick();
+        assertSame(air, world.getState(3, 0, 0));
+
+        //The block is changed again after being restored
+        assertTrue(journal.record(3, 0, 0, air));
+        world.setState(3, 0, 0, dirt);
+        assertFalse(journal.record(3, 0, 0, stone));
+
+        while (!task.isDone()) lib.tick();
+        assertEquals(4L, (long) task.getFuture().get());
+        assertSame(dirt, world.getState(3, 0, 0));
+
+        assertEquals(1, journal.size());
+        assertSame(air, journal.getOriginal(3, 0, 0));
+        assertNull(journal.getOriginal(0, 0, 0));
+
+        EditTask second = journal.rollback(1, TimeUnit.NANOSECONDS, false);
+        while (!second.isDone()) lib.tick();
+        assertSame(air, world.getState(3, 0, 0));
+        assertTrue(journal.isEmpty());
+    }
+
+    @Test
+    void testCancelledRollback() {
+        lib.reset();
+        TestWorld world = new TestWorld();
+        ChangeJournal journal = new ChangeJournal(ground(world.getWorld(), 0, 0, 0, 16));
+        BlockData air = state("air");
+
+        for (int x = 0; x < 4; x++) {
+            journal.record(x, 0, 0, air);
+        }
+
+        EditTask task = journal.rollback(1, TimeUnit.NANOSECONDS, false);
+        lib.tick();
+        BlockData dirt = state("dirt");
+        assertTrue(journal.record(3, 0, 0, dirt));
+        task.cancel();
+        lib.tick();
+
+        assertEquals(4, journal.size());
+        assertSame(air, journal.getOriginal(0, 0, 0));
+        assertSame(dirt, journal.getOriginal(3, 0, 0));
+    }
+
+    private static BlockData state(final String name) {
+        return (BlockData) Proxy.newProxyInstance(BlockData.class.getClassLoader(), new Class[]{BlockData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return name;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Playground ground(final World world, final double x, final double y, final double z, final double size) {
+        return new CuboidGround(world, new Position3D(world, x, y, z), new Position3D(world, x + size, y + size, z + size)) {
+            @Override
+            public Collection<EngineEntity> getEntities() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package es.karmadev.gamelib.region.edit;
+
+import es.karmadev.gamelib.TestLib;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EditTaskTest {
+
+    private final TestLib lib = TestLib.get();
+
+    @Test
+    void testBudget() throws Exception {
+        lib.reset();
+        CountingTask task = new CountingTask(1, 5, false);
+        task.start();
+
+        for (int tick = 1; tick <= 5; tick++) {
+            assertEquals(1, lib.tick());
+            assertEquals(tick, task.steps);
+            assertFalse(task.isDone());
+        }
+
+        assertEquals(1, lib.tick());
+        assertTrue(task.isDone());
+        assertEquals(0L, (long) task.getFuture().get());
+        assertEquals(0, lib.tick());
+    }
+
+    @Test
+    void testWholeBudget() {
+        lib.reset();
+        CountingTask task = new CountingTask(60_000_000_000L, 50, false);
+        task.start();
+
+        assertEquals(1, lib.tick());
+        assertEquals(50, task.steps);
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    void testPause() {
+        lib.reset();
+        CountingTask task = new CountingTask(60_000_000_000L, 3, true);
+        task.start();
+
+        for (int tick = 1; tick <= 3; tick++) {
+            lib.tick();
+            assertEquals(tick, task.steps);
+        }
+
+        lib.tick();
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    void testCancel() {
+        lib.reset();
+        CountingTask task = new CountingTask(1, 10, false);
+        task.start();
+
+        lib.tick();
+        task.cancel();
+        lib.tick();
+
+        assertEquals(1, task.steps);
+        assertTrue(task.getFuture().isCancelled());
+        assertEquals(0, lib.tick());
+    }
+
+    @Test
+    void testFailure() {
+        lib.reset();
+        EditTask task = new CountingTask(1, 10, false) {
+            @Override
+            protected boolean step() {
+                throw new IllegalStateException();
+            }
+        };
+        task.start();
+        lib.tick();
+
+        assertTrue(task.getFuture().isCompletedExceptionally());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> task.getFuture().get());
+        assertTrue(ex.getCause() instanceof IllegalStateException);
+    }
+
+    private static class CountingTask extends EditTask {
+
+        private final int total;
+        private final boolean pauses;
+        private int steps;
+
+        private CountingTask(final long budget, final int total, final boolean pauses) {
+            super(budget, false);
+            this.total = total;
+            this.pauses = pauses;
+        }
+
+        @Override
+        public double getProgress() {
+            return (double) steps / total;
+        }
+
+        @Override
+        protected boolean step() {
+            if (steps == total) return false;
+
+            steps++;
+            if (pauses) pause();
+            return true;
+        }
+    }
+}
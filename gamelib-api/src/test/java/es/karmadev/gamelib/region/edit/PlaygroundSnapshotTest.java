@@ -0,0 +1,68 @@
+package es.karmadev.gamelib.region.edit;
+
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaygroundSnapshotTest {
+
+    @Test
+    void testBitsPerBlock() {
+        assertEquals(1, snapshot(1, new int[]{0, 0, 0}).getBitsPerBlock());
+        assertEquals(1, snapshot(2, new int[]{0, 1}).getBitsPerBlock());
+        assertEquals(2, snapshot(3, new int[]{2}).getBitsPerBlock());
+        assertEquals(2, snapshot(4, new int[]{3}).getBitsPerBlock());
+        assertEquals(3, snapshot(5, new int[]{4}).getBitsPerBlock());
+        assertEquals(8, snapshot(256, new int[]{255}).getBitsPerBlock());
+        assertEquals(9, snapshot(257, new int[]{256}).getBitsPerBlock());
+    }
+
+    @Test
+    void testPacking() {
+        Random random = new Random(12);
+        for (int paletteSize : new int[]{1, 2, 3, 5, 8, 17, 33, 300, 5000}) {
+            int[] indexes = new int[4096 + random.nextInt(64)];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = random.nextInt(paletteSize);
+            }
+
+            PlaygroundSnapshot snapshot = snapshot(paletteSize, indexes);
+            assertEquals(indexes.length, snapshot.size());
+            for (int i = 0; i < indexes.length; i++) {
+                assertEquals(indexes[i], snapshot.get(i), "palette " + paletteSize + ", block " + i);
+            }
+        }
+    }
+
+    @Test
+    void testLongBoundaries() {
+        //3 bits per block leave 1 unused bit on each long
+        int[] indexes = new int[64];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i % 2 == 0 ? 7 : 0;
+        }
+
+        PlaygroundSnapshot snapshot = snapshot(8, indexes);
+        assertEquals(3, snapshot.getBitsPerBlock());
+        for (int i = 0; i < indexes.length; i++) {
+            assertEquals(indexes[i], snapshot.get(i), "block " + i);
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        PlaygroundSnapshot snapshot = new PlaygroundSnapshot(null, new BlockData[0], new int[0],
+                new long[0], new int[]{0}, 0, 0);
+
+        assertEquals(0, snapshot.size());
+        assertTrue(snapshot.getPalette().isEmpty());
+    }
+
+    private static PlaygroundSnapshot snapshot(final int paletteSize, final int[] indexes) {
+        return new PlaygroundSnapshot(null, new BlockData[paletteSize], indexes,
+                new long[1], new int[]{0, indexes.length}, 0, 15);
+    }
+}
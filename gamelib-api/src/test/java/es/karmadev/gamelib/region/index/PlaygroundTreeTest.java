@@ -0,0 +1,104 @@
+package es.karmadev.gamelib.region.index;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.shape.CuboidGround;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaygroundTreeTest {
+
+    @Test
+    void testInsert() {
+        PlaygroundTree tree = new PlaygroundTree();
+        Playground ground = ground(0, 0, 0, 10);
+
+        assertTrue(tree.insert(ground));
+        assertFalse(tree.insert(ground));
+        assertTrue(tree.contains(ground));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void testSearch() {
+        PlaygroundTree tree = new PlaygroundTree();
+        List<Playground> grounds = grid(tree, 12);
+
+        assertEquals(grounds.size(), tree.size());
+        assertSearch(tree, grounds, -5, -5, -5, 500, 500, 500);
+        assertSearch(tree, grounds, 15, 0, 15, 15, 0, 15);
+        assertSearch(tree, grounds, 100, 2, 37, 180, 4, 95);
+        assertSearch(tree, grounds, 1000, 0, 1000, 1010, 10, 1010);
+    }
+
+    @Test
+    void testRemove() {
+        PlaygroundTree tree = new PlaygroundTree();
+        List<Playground> grounds = grid(tree, 12);
+
+        Iterator<Playground> iterator = grounds.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            Playground ground = iterator.next();
+            if (i % 3 == 0) continue;
+
+            assertTrue(tree.remove(ground));
+            assertFalse(tree.remove(ground));
+            iterator.remove();
+        }
+
+        assertEquals(grounds.size(), tree.size());
+        assertSearch(tree, grounds, -5, -5, -5, 500, 500, 500);
+        assertSearch(tree, grounds, 60, 0, 20, 130, 10, 70);
+
+        for (Playground ground : grounds) assertTrue(tree.remove(ground));
+        assertEquals(0, tree.size());
+        assertSearch(tree, Collections.emptyList(), -5, -5, -5, 500, 500, 500);
+
+        Playground ground = ground(5, 0, 5, 10);
+        assertTrue(tree.insert(ground));
+        assertSearch(tree, Collections.singletonList(ground), 0, 0, 0, 20, 20, 20);
+    }
+
+    private static List<Playground> grid(final PlaygroundTree tree, final int side) {
+        List<Playground> grounds = new ArrayList<>();
+        for (int x = 0; x < side; x++) {
+            for (int z = 0; z < side; z++) {
+                Playground ground = ground(x * 20, (x + z) % 3, z * 20, 10 + (x * z) % 7);
+                assertTrue(tree.insert(ground));
+                grounds.add(ground);
+            }
+        }
+
+        return grounds;
+    }
+
+    private static void assertSearch(final PlaygroundTree tree, final Collection<Playground> grounds,
+                                     final double minX, final double minY, final double minZ,
+                                     final double maxX, final double maxY, final double maxZ) {
+        Set<Playground> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Playground ground : grounds) {
+            CuboidGround cuboid = (CuboidGround) ground;
+            if (cuboid.getMinX() <= maxX && cuboid.getMaxX() >= minX &&
+                    cuboid.getMinY() <= maxY && cuboid.getMaxY() >= minY &&
+                    cuboid.getMinZ() <= maxZ && cuboid.getMaxZ() >= minZ) expected.add(ground);
+        }
+
+        Set<Playground> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        tree.search(minX, minY, minZ, maxX, maxY, maxZ, (ground) -> assertTrue(found.add(ground)));
+
+        assertEquals(expected, found);
+    }
+
+    private static Playground ground(final double x, final double y, final double z, final double size) {
+        return new CuboidGround(null, new Position3D(null, x, y, z), new Position3D(null, x + size, y + size, z + size)) {
+            @Override
+            public Collection<EngineEntity> getEntities() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
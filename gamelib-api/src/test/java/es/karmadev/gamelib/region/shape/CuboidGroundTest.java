@@ -0,0 +1,81 @@
+package es.karmadev.gamelib.region.shape;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.Position3D;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CuboidGroundTest {
+
+    @Test
+    void testContains() {
+        CuboidGround ground = ground(-4, 0, 2, 6, 10, 8);
+
+        assertTrue(ground.contains(-4, 0, 2));
+        assertTrue(ground.contains(6, 10, 8));
+        assertTrue(ground.contains(1.5, 5, 5));
+        assertFalse(ground.contains(-4.01, 5, 5));
+        assertFalse(ground.contains(1, 10.01, 5));
+        assertFalse(ground.contains(1, 5, 1.99));
+    }
+
+    @Test
+    void testContainsBlock() {
+        CuboidGround ground = ground(-4, 0, 2, 6, 10, 8);
+
+        assertTrue(ground.containsBlock(-4, 0, 2));
+        assertTrue(ground.containsBlock(5, 9, 7));
+        assertFalse(ground.containsBlock(6, 9, 7));
+        assertFalse(ground.containsBlock(-5, 0, 2));
+    }
+
+    @Test
+    void testDistance() {
+        CuboidGround ground = ground(0, 0, 0, 10, 10, 10);
+
+        assertEquals(0, ground.distance(5, 5, 5));
+        assertEquals(5, ground.distance(8, 9, 5));
+        assertEquals(Math.sqrt(75), ground.distance(0, 0, 0), 1e-9);
+    }
+
+    @Test
+    void testContainsAll() {
+        CuboidGround ground = ground(-4, 0, 2, 6, 10, 8);
+        Random random = new Random(8);
+
+        int n = 2500;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 20 - 8;
+            ys[i] = random.nextDouble() * 20 - 5;
+            zs[i] = random.nextDouble() * 20 - 6;
+        }
+
+        BitSet out = new BitSet();
+        out.set(n + 3);
+        ground.containsAll(xs, ys, zs, n, out);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(ground.contains(xs[i], ys[i], zs[i]), out.get(i));
+        }
+        assertTrue(out.get(n + 3));
+    }
+
+    static CuboidGround ground(final double x1, final double y1, final double z1,
+                               final double x2, final double y2, final double z2) {
+        return new CuboidGround(null, new Position3D(null, x1, y1, z1), new Position3D(null, x2, y2, z2)) {
+            @Override
+            public Collection<EngineEntity> getEntities() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
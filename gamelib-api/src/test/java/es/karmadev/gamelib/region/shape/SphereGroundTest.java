@@ -0,0 +1,112 @@
+package es.karmadev.gamelib.region.shape;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.pos.Position3D;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SphereGroundTest {
+
+    @Test
+    void testContains() {
+        SphereGround ground = ground(10, 64, -10, 5);
+
+        assertTrue(ground.contains(10, 64, -10));
+        assertTrue(ground.contains(15, 64, -10));
+        assertTrue(ground.contains(13, 68, -10));
+        assertFalse(ground.contains(15.01, 64, -10));
+        assertFalse(ground.contains(14, 68, -10));
+    }
+
+    @Test
+    void testContainsBlock() {
+        SphereGround ground = ground(0, 0, 0, 3);
+
+        assertTrue(ground.containsBlock(0, 0, 0));
+        assertTrue(ground.containsBlock(0, -3, 0));
+        assertTrue(ground.containsBlock(2, 2, 1));
+        assertFalse(ground.containsBlock(2, 2, 2));
+        assertFalse(ground.containsBlock(4, 0, 0));
+    }
+
+    @Test
+    void testDistance() {
+        SphereGround ground = ground(1, 2, 3, 10);
+
+        assertEquals(0, ground.distance(1, 2, 3));
+        assertEquals(5, ground.distance(4, 6, 3));
+    }
+
+    @Test
+    void testContainsAll() {
+        SphereGround ground = ground(1, 5, 3, 6);
+        Random random = new Random(8);
+
+        int n = 2500;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 20 - 8;
+            ys[i] = random.nextDouble() * 20 - 5;
+            zs[i] = random.nextDouble() * 20 - 6;
+        }
+
+        BitSet out = new BitSet();
+        out.set(n + 3);
+        ground.containsAll(xs, ys, zs, n, out);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(ground.contains(xs[i], ys[i], zs[i]), out.get(i));
+        }
+        assertTrue(out.get(n + 3));
+    }
+
+    @Test
+    void testForEachBlock() {
+        SphereGround ground = ground(0.5, 64.3, -7.25, 9.5);
+        assertBlocks(ground, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertBlocks(ground, -3, 60, -20, 4, 80, -8);
+        assertBlocks(ground, 100, 0, 100, 110, 10, 110);
+
+        int[] visited = {0};
+        assertFalse(ground.forEachBlock((x, y, z) -> ++visited[0] < 10));
+        assertEquals(10, visited[0]);
+    }
+
+    private static void assertBlocks(final SphereGround ground, final int fromX, final int fromY, final int fromZ,
+                                     final int toX, final int toY, final int toZ) {
+        Set<BlockPos> expected = new HashSet<>();
+        int radius = (int) Math.ceil(ground.getRadius()) + 1;
+        for (int x = (int) ground.getX() - radius; x <= ground.getX() + radius; x++) {
+            for (int y = (int) ground.getY() - radius; y <= ground.getY() + radius; y++) {
+                for (int z = (int) ground.getZ() - radius; z <= ground.getZ() + radius; z++) {
+                    if (x < fromX || y < fromY || z < fromZ || x > toX || y > toY || z > toZ) continue;
+                    if (ground.containsBlock(x, y, z)) expected.add(BlockPos.of(x, y, z));
+                }
+            }
+        }
+
+        Set<BlockPos> visited = new HashSet<>();
+        assertTrue(ground.forEachBlock(fromX, fromY, fromZ, toX, toY, toZ, (x, y, z) -> {
+            assertTrue(visited.add(BlockPos.of(x, y, z)));
+            return true;
+        }));
+
+        assertEquals(expected, visited);
+    }
+
+    static SphereGround ground(final double x, final double y, final double z, final double radius) {
+        return new SphereGround(null, new Position3D(null, x, y, z), radius) {
+            @Override
+            public Collection<EngineEntity> getEntities() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
@@ -0,0 +1,230 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.TestWorld;
+import es.karmadev.gamelib.pos.BlockPos;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineOfSightTest {
+
+    @Test
+    void testAxisAligned() {
+        assertVoxels(trace(LineOfSight.DEFAULT, 0.5, 0.5, 0.5, 5.5, 0.5, 0.5),
+                0, 0, 0, 1, 0, 0, 2, 0, 0, 3, 0, 0, 4, 0, 0, 5, 0, 0);
+        assertVoxels(trace(LineOfSight.DEFAULT, 0.5, 0.5, 0.5, -2.5, 0.5, 0.5),
+                0, 0, 0, -1, 0, 0, -2, 0, 0, -3, 0, 0);
+        assertVoxels(trace(LineOfSight.DEFAULT, 3.2, 70.9, -1.1, 3.2, 67.1, -1.1),
+                3, 70, -2, 3, 69, -2, 3, 68, -2, 3, 67, -2);
+        assertVoxels(trace(LineOfSight.DEFAULT, -0.5, 2.5, 0.1, -0.5, 2.5, 2.9),
+                -1, 2, 0, -1, 2, 1, -1, 2, 2);
+    }
+
+    @Test
+    void testDiagonal() {
+        assertVoxels(trace(LineOfSight.DEFAULT, 0.5, 0.5, 0.5, 2.5, 1.5, 0.5),
+                0, 0, 0, 1, 0, 0, 1, 1, 0, 2, 1, 0);
+        assertVoxels(trace(LineOfSight.DEFAULT, 0.5, 0.5, 0.5, -0.5, -1.5, 1.5),
+                0, 0, 0, 0, -1, 0, 0, -1, 1, -1, -1, 1, -1, -2, 1);
+    }
+
+    @Test
+    void testSingleVoxel() {
+        assertVoxels(trace(LineOfSight.DEFAULT, 4.2, 4.2, 4.2, 4.2, 4.2, 4.2), 4, 4, 4);
+        assertVoxels(trace(LineOfSight.DEFAULT, 4.2, 4.2, 4.2, 4.8, 4.9, 4.1), 4, 4, 4);
+    }
+
+    @Test
+    void testOrder() {
+        Random random = new Random(16);
+        for (int i = 0; i < 500; i++) {
+            double fromX = random.nextDouble() * 40 - 20;
+            double fromY = random.nextDouble() * 40 - 20;
+            double fromZ = random.nextDouble() * 40 - 20;
+            double toX = random.nextDouble() * 40 - 20;
+            double toY = random.nextDouble() * 40 - 20;
+            double toZ = random.nextDouble() * 40 - 20;
+
+            List<int[]> voxels = trace(LineOfSight.DEFAULT, fromX, fromY, fromZ, toX, toY, toZ);
+            assertArrayEquals(floor(fromX, fromY, fromZ), voxels.get(0));
+            assertArrayEquals(floor(toX, toY, toZ), voxels.get(voxels.size() - 1));
+
+            Set<Long> visited = new HashSet<>();
+            for (int j = 0; j < voxels.size(); j++) {
+                int[] voxel = voxels.get(j);
+                assertTrue(visited.add(BlockPos.pack(voxel[0], voxel[1], voxel[2])), "voxel visited twice");
+                assertTrue(crosses(voxel, fromX, fromY, fromZ, toX, toY, toZ), "voxel not crossed by the ray");
+
+                if (j > 0) {
+                    int[] previous = voxels.get(j - 1);
+                    int distance = Math.abs(voxel[0] - previous[0]) + Math.abs(voxel[1] - previous[1]) +
+                            Math.abs(voxel[2] - previous[2]);
+                    assertEquals(1, distance, "voxels are not face adjacent");
+                }
+            }
+
+            for (int step = 0; step <= 1000; step++) {
+                double t = step / 1000D;
+                int[] voxel = floor(fromX + (toX - fromX) * t, fromY + (toY - fromY) * t, fromZ + (toZ - fromZ) * t);
+                assertTrue(visited.contains(BlockPos.pack(voxel[0], voxel[1], voxel[2])), "voxel skipped");
+            }
+        }
+    }
+
+    @Test
+    void testStop() {
+        int[] visits = {0};
+        boolean completed = LineOfSight.DEFAULT.traverse(0.5, 0.5, 0.5, 10.5, 0.5, 0.5, (x, y, z) -> ++visits[0] < 3);
+
+        assertFalse(completed);
+        assertEquals(3, visits[0]);
+    }
+
+    @Test
+    void testThickAxisAligned() {
+        List<int[]> voxels = trace(new LineOfSight(0.5), 0.5, 0.5, 0.5, 4.5, 0.5, 0.5);
+        Set<Long> visited = unique(voxels);
+
+        assertEquals(6 * 2 * 2, voxels.size());
+        for (int x = 0; x <= 5; x++) {
+            for (int y = 0; y <= 1; y++) {
+                for (int z = 0; z <= 1; z++) {
+                    assertTrue(visited.contains(BlockPos.pack(x, y, z)));
+                }
+            }
+        }
+
+        int lastX = Integer.MIN_VALUE;
+        for (int[] voxel : voxels) {
+            assertTrue(voxel[0] >= lastX, "voxels are not ordered along the ray");
+            lastX = voxel[0];
+        }
+    }
+
+    @Test
+    void testThick() {
+        Random random = new Random(17);
+        for (int i = 0; i < 200; i++) {
+            double thicknessX = random.nextDouble() * 2;
+            double thicknessY = random.nextDouble() * 2;
+            double thicknessZ = random.nextDouble() * 2;
+            LineOfSight sight = new LineOfSight(thicknessX, thicknessY, thicknessZ, LineOfSight.DEFAULT_OCCLUSION);
+
+            double fromX = random.nextDouble() * 20 - 10;
+            double fromY = random.nextDouble() * 20 - 10;
+            double fromZ = random.nextDouble() * 20 - 10;
+            double toX = i % 4 == 0 ? fromX : random.nextDouble() * 20 - 10;
+            double toY = random.nextDouble() * 20 - 10;
+            double toZ = random.nextDouble() * 20 - 10;
+
+            List<int[]> voxels = trace(sight, fromX, fromY, fromZ, toX, toY, toZ);
+            Set<Long> visited = unique(voxels);
+
+            Set<Long> expected = new HashSet<>();
+            for (int step = 0; step <= 500; step++) {
+                double t = step / 500D;
+                double x = fromX + (toX - fromX) * t;
+                double y = fromY + (toY - fromY) * t;
+                double z = fromZ + (toZ - fromZ) * t;
+
+                for (int bX = (int) Math.floor(x - thicknessX); bX <= (int) Math.floor(x + thicknessX); bX++) {
+                    for (int bY = (int) Math.floor(y - thicknessY); bY <= (int) Math.floor(y + thicknessY); bY++) {
+                        for (int bZ = (int) Math.floor(z - thicknessZ); bZ <= (int) Math.floor(z + thicknessZ); bZ++) {
+                            expected.add(BlockPos.pack(bX, bY, bZ));
+                        }
+                    }
+                }
+            }
+
+            assertTrue(visited.containsAll(expected), "voxel skipped");
+            for (int[] voxel : voxels) {
+                assertTrue(voxel[0] >= Math.floor(Math.min(fromX, toX) - thicknessX) &&
+                        voxel[0] <= Math.floor(Math.max(fromX, toX) + thicknessX) &&
+                        voxel[1] >= Math.floor(Math.min(fromY, toY) - thicknessY) &&
+                        voxel[1] <= Math.floor(Math.max(fromY, toY) + thicknessY) &&
+                        voxel[2] >= Math.floor(Math.min(fromZ, toZ) - thicknessZ) &&
+                        voxel[2] <= Math.floor(Math.max(fromZ, toZ) + thicknessZ), "voxel outside the swept box");
+            }
+        }
+    }
+
+    @Test
+    void testSnapshot() {
+        LineOfSight sight = new LineOfSight(0, 0, 0, (material) -> material == Material.STONE);
+        TestWorld test = new TestWorld().load(0, 0, 1, 0);
+        World world = test.getWorld();
+
+        SightSnapshot snapshot = new SightSnapshot();
+        snapshot.update(world, new HashSet<>(Arrays.asList(SightSnapshot.chunkKey(0, 0),
+                SightSnapshot.chunkKey(1, 0), SightSnapshot.chunkKey(2, 0))));
+
+        assertEquals(SightResult.VISIBLE, sight.trace(snapshot, world, 0.5, 1.5, 0.5, 30.5, 1.5, 0.5));
+        assertEquals(SightResult.UNKNOWN, sight.trace(snapshot, world, 0.5, 1.5, 0.5, 40.5, 1.5, 0.5));
+        assertEquals(SightResult.UNKNOWN, sight.trace(snapshot, world, 0.5, 1.5, 0.5, -5.5, 1.5, 0.5));
+
+        //A block before the uncaptured chunk blocks the sight
+        test.setType(20, 1, 0, Material.STONE);
+        snapshot.markDirty(world, 1, 0);
+        snapshot.update(world, new HashSet<>(Arrays.asList(SightSnapshot.chunkKey(0, 0), SightSnapshot.chunkKey(1, 0))));
+
+        assertEquals(SightResult.BLOCKED, sight.trace(snapshot, world, 0.5, 1.5, 0.5, 30.5, 1.5, 0.5));
+        assertEquals(SightResult.BLOCKED, sight.trace(snapshot, world, 0.5, 1.5, 0.5, 40.5, 1.5, 0.5));
+        assertEquals(SightResult.UNKNOWN, sight.trace(snapshot, world, 40.5, 1.5, 0.5, 0.5, 1.5, 0.5));
+    }
+
+    private static List<int[]> trace(final LineOfSight sight, final double fromX, final double fromY, final double fromZ,
+                                     final double toX, final double toY, final double toZ) {
+        List<int[]> voxels = new ArrayList<>();
+        assertTrue(sight.traverse(fromX, fromY, fromZ, toX, toY, toZ, (x, y, z) -> voxels.add(new int[]{x, y, z})));
+
+        return voxels;
+    }
+
+    private static Set<Long> unique(final List<int[]> voxels) {
+        Set<Long> visited = new HashSet<>();
+        for (int[] voxel : voxels) {
+            assertTrue(visited.add(BlockPos.pack(voxel[0], voxel[1], voxel[2])), "voxel visited twice");
+        }
+
+        return visited;
+    }
+
+    private static void assertVoxels(final List<int[]> voxels, final int... expected) {
+        assertEquals(expected.length / 3, voxels.size());
+        for (int i = 0; i < voxels.size(); i++) {
+            assertArrayEquals(Arrays.copyOfRange(expected, i * 3, i * 3 + 3), voxels.get(i));
+        }
+    }
+
+    private static int[] floor(final double x, final double y, final double z) {
+        return new int[]{(int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z)};
+    }
+
+    private static boolean crosses(final int[] voxel, final double fromX, final double fromY, final double fromZ,
+                                   final double toX, final double toY, final double toZ) {
+        double enter = 0;
+        double exit = 1;
+
+        double[] from = {fromX, fromY, fromZ};
+        double[] delta = {toX - fromX, toY - fromY, toZ - fromZ};
+        for (int axis = 0; axis < 3; axis++) {
+            double min = voxel[axis] - 1E-9;
+            double max = voxel[axis] + 1 + 1E-9;
+            if (delta[axis] == 0) {
+                if (from[axis] < min || from[axis] > max) return false;
+                continue;
+            }
+
+            double a = (min - from[axis]) / delta[axis];
+            double b = (max - from[axis]) / delta[axis];
+            enter = Math.max(enter, Math.min(a, b));
+            exit = Math.min(exit, Math.max(a, b));
+        }
+
+        return enter <= exit;
+    }
+}
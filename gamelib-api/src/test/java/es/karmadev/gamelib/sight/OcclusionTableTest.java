@@ -0,0 +1,91 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.TestWorld;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OcclusionTableTest {
+
+    @Test
+    void testDefaults() {
+        OcclusionTable table = new OcclusionTable();
+        for (Material material : Material.values()) {
+            boolean block = !material.isLegacy() && material.isBlock();
+            assertEquals(block && material.isOccluding() && !material.isInteractable(), table.test(material),
+                    material.name());
+            assertEquals(block, table.hasFlags(material, OcclusionTable.BLOCK), material.name());
+        }
+    }
+
+    @Test
+    void testOverride() {
+        OcclusionTable table = new OcclusionTable();
+        byte glass = table.getFlags(Material.GLASS);
+        byte stone = table.getFlags(Material.STONE);
+        byte air = table.getFlags(Material.AIR);
+
+        assertSame(table, table.setOccluding(true, Material.GLASS, Material.AIR));
+        assertTrue(table.test(Material.GLASS));
+        assertTrue(table.test(Material.AIR));
+        assertEquals(glass | OcclusionTable.BLOCKS_SIGHT, table.getFlags(Material.GLASS));
+        assertEquals(air | OcclusionTable.BLOCKS_SIGHT, table.getFlags(Material.AIR));
+        assertEquals(stone, table.getFlags(Material.STONE));
+
+        table.setOccluding(false, Material.GLASS, Material.STONE);
+        assertFalse(table.test(Material.GLASS));
+        assertFalse(table.test(Material.STONE));
+        assertTrue(table.test(Material.AIR));
+        assertEquals(glass & ~OcclusionTable.BLOCKS_SIGHT, table.getFlags(Material.GLASS));
+        assertEquals(stone & ~OcclusionTable.BLOCKS_SIGHT, table.getFlags(Material.STONE));
+
+        //Other tables keep their own flags
+        OcclusionTable other = new OcclusionTable();
+        assertEquals(glass, other.getFlags(Material.GLASS));
+        assertEquals(air, other.getFlags(Material.AIR));
+    }
+
+    @Test
+    void testFilterOverride() {
+        OcclusionTable table = new OcclusionTable();
+        table.setOccluding(true, (material) -> material.name().endsWith("GLASS"));
+
+        for (Material material : Material.values()) {
+            if (material.name().endsWith("GLASS")) {
+                assertTrue(table.test(material), material.name());
+            }
+        }
+
+        table.setOccluding(false, (material) -> true);
+        for (Material material : Material.values()) {
+            assertFalse(table.test(material), material.name());
+        }
+    }
+
+    @Test
+    void testReset() {
+        OcclusionTable table = new OcclusionTable();
+        OcclusionTable defaults = new OcclusionTable();
+
+        table.setOccluding(true, Material.GLASS).setOccluding(false, Material.STONE);
+        assertSame(table, table.reset());
+        for (Material material : Material.values()) {
+            assertEquals(defaults.getFlags(material), table.getFlags(material), material.name());
+        }
+    }
+
+    @Test
+    void testSight() {
+        OcclusionTable table = new OcclusionTable().setOccluding(false, Material.STONE);
+        LineOfSight sight = new LineOfSight(0, 0, 0, table);
+        World world = new TestWorld().setType(3, 0, 0, Material.STONE).getWorld();
+
+        assertTrue(sight.canSee(world, 0.5, 0.5, 0.5, 5.5, 0.5, 0.5));
+
+        table.setOccluding(true, Material.STONE);
+        assertFalse(sight.canSee(world, 0.5, 0.5, 0.5, 5.5, 0.5, 0.5));
+        assertTrue(sight.canSee(world, 0.5, 0.5, 0.5, 2.5, 0.5, 0.5));
+    }
+}
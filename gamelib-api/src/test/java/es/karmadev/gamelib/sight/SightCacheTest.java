@@ -0,0 +1,106 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.TestWorld;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SightCacheTest {
+
+    private final static LineOfSight SIGHT = new LineOfSight(0, 0, 0, (material) -> material == Material.STONE);
+
+    @Test
+    void testHit() {
+        SightCache cache = new SightCache(SIGHT);
+        World world = new TestWorld().getWorld();
+
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 10.5, 1.5, 0.5));
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 10.5, 1.5, 0.5));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        //Less than a quantization step away
+        assertTrue(cache.canSee(world, 0.6, 1.6, 0.6, 10.6, 1.6, 0.6));
+        assertEquals(2, cache.getHits());
+
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 10.5, 2.5, 0.5));
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testStamp() {
+        SightCache cache = new SightCache(SIGHT);
+        TestWorld test = new TestWorld();
+        World world = test.getWorld();
+
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 40.5, 1.5, 0.5));
+
+        //The change is not seen until the chunk is invalidated
+        test.setType(20, 1, 0, Material.STONE);
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 40.5, 1.5, 0.5));
+        assertEquals(0, cache.getInvalidations());
+
+        cache.invalidate(world, 1, 0);
+        assertFalse(cache.canSee(world, 0.5, 1.5, 0.5, 40.5, 1.5, 0.5));
+        assertEquals(1, cache.getInvalidations());
+        assertEquals(2, cache.getMisses());
+
+        assertFalse(cache.canSee(world, 0.5, 1.5, 0.5, 40.5, 1.5, 0.5));
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    void testStampOtherChunk() {
+        SightCache cache = new SightCache(SIGHT);
+        World world = new TestWorld().getWorld();
+
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 10.5, 1.5, 0.5));
+        cache.invalidate(world, 0, 5);
+        cache.invalidate(world, -3, 0);
+
+        assertTrue(cache.canSee(world, 0.5, 1.5, 0.5, 10.5, 1.5, 0.5));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getInvalidations());
+    }
+
+    @Test
+    void testLeastRecentlyUsed() {
+        SightCache cache = new SightCache(SIGHT, 2, SightCache.DEFAULT_QUANTIZATION);
+        World world = new TestWorld().getWorld();
+
+        cache.canSee(world, 0.5, 1.5, 0.5, 1.5, 1.5, 0.5);
+        cache.canSee(world, 0.5, 1.5, 0.5, 2.5, 1.5, 0.5);
+        cache.canSee(world, 0.5, 1.5, 0.5, 1.5, 1.5, 0.5);
+        cache.canSee(world, 0.5, 1.5, 0.5, 3.5, 1.5, 0.5);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+
+        cache.canSee(world, 0.5, 1.5, 0.5, 1.5, 1.5, 0.5);
+        assertEquals(2, cache.getHits());
+
+        cache.canSee(world, 0.5, 1.5, 0.5, 2.5, 1.5, 0.5);
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testRemoveWorld() {
+        SightCache cache = new SightCache(SIGHT);
+        World world = new TestWorld().getWorld();
+        World other = new TestWorld().getWorld();
+
+        cache.canSee(world, 0.5, 1.5, 0.5, 5.5, 1.5, 0.5);
+        cache.canSee(other, 0.5, 1.5, 0.5, 5.5, 1.5, 0.5);
+        assertEquals(2, cache.size());
+
+        cache.removeWorld(world);
+        assertEquals(1, cache.size());
+
+        cache.canSee(other, 0.5, 1.5, 0.5, 5.5, 1.5, 0.5);
+        assertEquals(1, cache.getHits());
+    }
+}
@@ -0,0 +1,65 @@
+package es.karmadev.gamelib.sight;
+
+import es.karmadev.gamelib.TestWorld;
+import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewConeTest {
+
+    private final static World WORLD = new TestWorld().getWorld();
+
+    @Test
+    void testLook() {
+        Vec3 south = ViewCone.look(0, 0);
+        assertEquals(0, south.getX(), 1e-9);
+        assertEquals(0, south.getY(), 1e-9);
+        assertEquals(1, south.getZ(), 1e-9);
+
+        Vec3 west = ViewCone.look(90, 0);
+        assertEquals(-1, west.getX(), 1e-9);
+        assertEquals(0, west.getZ(), 1e-9);
+
+        Vec3 down = ViewCone.look(0, 90);
+        assertEquals(-1, down.getY(), 1e-9);
+        assertEquals(1, ViewCone.look(37, -21).length(), 1e-9);
+    }
+
+    @Test
+    void testContains() {
+        ViewCone cone = new ViewCone(45, 10);
+        Position3D viewer = new Position3D(WORLD, 0, 0, 0, 0, 0, true);
+
+        assertTrue(cone.contains(viewer, new Position3D(WORLD, 0, 0, 5)));
+        assertTrue(cone.contains(viewer, new Position3D(WORLD, 4, 0, 5)));
+        assertFalse(cone.contains(viewer, new Position3D(WORLD, 6, 0, 5)));
+        assertFalse(cone.contains(viewer, new Position3D(WORLD, 0, 0, -5)));
+        assertFalse(cone.contains(viewer, new Position3D(WORLD, 0, 0, 11)));
+        assertFalse(cone.contains(viewer, new Position3D(null, 0, 0, 5)));
+    }
+
+    @Test
+    void testRotation() {
+        ViewCone cone = new ViewCone(30, 64);
+        Position3D south = new Position3D(WORLD, 0, 0, 0, 0, 0, true);
+        Position3D north = new Position3D(WORLD, 0, 0, 0, 180, 0, true);
+        Position3D target = new Position3D(WORLD, 0, 0, 5);
+
+        //The look follows the viewer rotation
+        assertTrue(cone.contains(south, target));
+        assertFalse(cone.contains(north, target));
+        assertTrue(cone.contains(south, target));
+        assertEquals(cone.contains(north, target), cone.contains(north, ViewCone.look(180, 0), target));
+    }
+
+    @Test
+    void testFront() {
+        Vec3 look = ViewCone.look(0, 0);
+        assertTrue(ViewCone.FRONT.contains(0, 0, 0, look.getX(), look.getY(), look.getZ(), 1000, 0, 1));
+        assertTrue(ViewCone.FRONT.contains(0, 0, 0, look.getX(), look.getY(), look.getZ(), 0, 0, 1e6));
+        assertFalse(ViewCone.FRONT.contains(0, 0, 0, look.getX(), look.getY(), look.getZ(), 1000, 0, -1));
+    }
+}
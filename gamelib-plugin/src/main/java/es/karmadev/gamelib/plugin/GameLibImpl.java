@@ -5,24 +5,41 @@ import com.google.inject.Singleton;
 import es.karmadev.gamelib.GameLib;
 import es.karmadev.gamelib.PlayerManager;
 import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.entity.human.HumanPlayer;
 import es.karmadev.gamelib.exception.PlaygroundPositionException;
 import es.karmadev.gamelib.plugin.data.EntityData;
+import es.karmadev.gamelib.plugin.impl.entity.GameEntity;
+import es.karmadev.gamelib.plugin.index.EntityGrid;
+import es.karmadev.gamelib.plugin.index.GameRegionTracker;
+import es.karmadev.gamelib.plugin.index.NameIndex;
+import es.karmadev.gamelib.plugin.index.WorldEntityIndex;
 import es.karmadev.gamelib.plugin.impl.region.Cuboid;
 import es.karmadev.gamelib.plugin.impl.region.Sphere;
+import es.karmadev.gamelib.plugin.manager.GameHitboxEngine;
+import es.karmadev.gamelib.plugin.manager.GameJournalRecorder;
 import es.karmadev.gamelib.plugin.manager.GamePlayerManager;
 import es.karmadev.gamelib.plugin.manager.GameStorageDriver;
 import es.karmadev.gamelib.pos.Position3D;
 import es.karmadev.gamelib.region.GameShape;
 import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.index.PlaygroundRegistry;
+import es.karmadev.gamelib.sight.LineOfSight;
+import es.karmadev.gamelib.sight.SightCache;
+import es.karmadev.gamelib.sight.SightSnapshot;
 import es.karmadev.gamelib.storage.StorageDriver;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Singleton
 public class GameLibImpl extends GameLib {
@@ -36,12 +53,24 @@ public class GameLibImpl extends GameLib {
     private StorageDriver driver;
 
     private final Set<EngineEntity> entities = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, EngineEntity> entitiesByUniqueId = new ConcurrentHashMap<>();
+    private final Map<Integer, EngineEntity> entitiesById = new ConcurrentHashMap<>();
+    private final NameIndex<EngineEntity> entityNames = new NameIndex<>();
+    private final EntityGrid grid = new EntityGrid();
+    private final WorldEntityIndex worldIndex = new WorldEntityIndex();
+    private final PlaygroundRegistry registry = new PlaygroundRegistry();
+    private final GameRegionTracker tracker;
+    private final GameJournalRecorder recorder = new GameJournalRecorder(registry);
+    private final SightCache sightCache = new SightCache(LineOfSight.DEFAULT);
+    private final SightSnapshot sightSnapshot = new SightSnapshot();
+    private final GameHitboxEngine hitboxEngine = new GameHitboxEngine(grid);
 
     @Inject
     public GameLibImpl(final GamePlugin plugin, final EntityData data) {
         registerAsInstance();
         this.plugin = plugin;
         this.entityData = data;
+        this.tracker = new GameRegionTracker(registry, plugin.getLogger());
     }
 
     /**
@@ -84,6 +113,66 @@ public class GameLibImpl extends GameLib {
         return driver;
     }
 
+    /**
+     * Get the library playground registry
+     *
+     * @return the playground registry
+     */
+    @Override
+    public PlaygroundRegistry getPlaygroundRegistry() {
+        return registry;
+    }
+
+    /**
+     * Get the library region tracker
+     *
+     * @return the region tracker
+     */
+    @Override
+    public GameRegionTracker getRegionTracker() {
+        return tracker;
+    }
+
+    /**
+     * Get the library journal recorder
+     *
+     * @return the journal recorder
+     */
+    @Override
+    public GameJournalRecorder getJournalRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Get the library line of sight cache
+     *
+     * @return the sight cache
+     */
+    @Override
+    public SightCache getSightCache() {
+        return sightCache;
+    }
+
+    /**
+     * Get the library chunk snapshots
+     *
+     * @return the sight snapshots
+     */
+    @Override
+    public SightSnapshot getSightSnapshot() {
+        return sightSnapshot;
+    }
+
+    /**
+     * Get the library hitbox engine
+     *
+     * @return the hitbox engine
+     */
+    @Override
+    public GameHitboxEngine getHitboxEngine() {
+        return hitboxEngine;
+    }
+
     /**
      * Get all the plugin-aware entities
      *
@@ -94,12 +183,216 @@ public class GameLibImpl extends GameLib {
         return Collections.unmodifiableCollection(entities);
     }
 
+    /**
+     * Get all the plugin-aware entities on the
+     * specified world. The collection is a live
+     * read-only view of the world entities, until the
+     * world is unloaded. Worlds with no entity get an
+     * empty collection, which is never updated
+     *
+     * @param world the world to get entities at
+     * @return the world entities
+     */
+    @Override
+    public Collection<? extends EngineEntity> getEntities(final World world) {
+        return worldIndex.getEntities(world);
+    }
+
+    /**
+     * Get all the entities whose ID match
+     *
+     * @param id the id to search by
+     * @return the entities with the ID
+     */
+    @Override
+    public @NotNull Collection<? extends EngineEntity> getEntities(final int id) {
+        EngineEntity entity = entitiesById.get(id);
+        if (entity == null) return Collections.emptyList();
+
+        return Collections.singletonList(entity);
+    }
+
+    /**
+     * Get all the entities with the name
+     *
+     * @param name the name to search by
+     * @return the entities with the name
+     */
+    @Override
+    public @NotNull Collection<? extends EngineEntity> getEntities(final String name) {
+        if (name == null) return Collections.emptyList();
+        return entityNames.get(name).stream().filter((entity) -> name.equals(entity.getName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get all the entities with the name,
+     * ignoring case. The entities are found
+     * through the name index, which picks up the
+     * custom names set by commands or other plugins
+     * only when {@link #refreshNames()} runs, once
+     * per second, so for up to 20 ticks those entities
+     * might still be found by their previous name
+     *
+     * @param name the name to search by
+     * @return the entities with the name
+     */
+    @Override
+    public @NotNull Collection<? extends EngineEntity> getEntitiesIgnoreCase(final String name) {
+        return entityNames.get(name);
+    }
+
+    /**
+     * Get the entities whose name starts with
+     * the prefix, ignoring case, sorted by name.
+     * The name index might be a few ticks behind, see
+     * {@link #getEntitiesIgnoreCase(String)}
+     *
+     * @param prefix the name prefix
+     * @param limit the max amount of entities
+     * @return the entities whose name starts
+     * with the prefix
+     */
+    @Override
+    public @NotNull List<? extends EngineEntity> getEntitiesByPrefix(final String prefix, final int limit) {
+        return entityNames.startingWith(prefix, limit);
+    }
+
+    /**
+     * Get an entity by its unique ID
+     *
+     * @param uniqueId the entity unique ID
+     * @return the entity
+     */
+    @Override
+    public @Nullable EngineEntity getEntity(final UUID uniqueId) {
+        if (uniqueId == null) return null;
+        return entitiesByUniqueId.get(uniqueId);
+    }
+
+    /**
+     * Get the plugin-aware entities within the
+     * radius of the position, ordered from the nearest
+     * to the farthest. The entities are searched lazily
+     * on the {@link EntityGrid grid}
+     *
+     * @param position the position to search from
+     * @param radius the search radius
+     * @param filter the entity filter
+     * @return the entities within the radius
+     */
+    @Override
+    public @NotNull Stream<? extends EngineEntity> within(final Position3D position, final double radius,
+                                                          final Predicate<? super EngineEntity> filter) {
+        Iterator<EngineEntity> iterator = grid.nearest(position.getWorld(), position.getX(), position.getY(),
+                position.getZ(), radius, filter);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+    }
+
+    /**
+     * Get all the entities inside the
+     * playground area. Only the entities near
+     * the playground bounds are visited, and the
+     * entities which are not plugin-aware yet are
+     * wrapped, so they become plugin-aware
+     *
+     * @param playground the playground
+     * @return the playground entities
+     */
+    public List<EngineEntity> getEntities(final Playground playground) {
+        World world = playground.getWorld();
+        Location location = new Location(world, 0, 0, 0);
+
+        List<EngineEntity> engineEntities = new ArrayList<>();
+        for (Entity entity : world.getNearbyEntities(playground.getBoundingBox())) {
+            entity.getLocation(location);
+            if (!playground.contains(location.getX(), location.getY(), location.getZ())) continue;
+
+            EngineEntity engineEntity = getEntity(entity.getUniqueId());
+            if (engineEntity == null) engineEntity = new GameEntity(this, entity);
+
+            engineEntities.add(engineEntity);
+        }
+
+        return engineEntities;
+    }
+
     public void addEntity(final EngineEntity entity) {
-        entities.add(entity);
+        synchronized (entities) {
+            entities.add(entity);
+            entitiesByUniqueId.put(entity.getUniqueId(), entity);
+            entitiesById.put(entity.getId(), entity);
+            entityNames.insert(entity, entity.getName());
+        }
+
+        worldIndex.insert(entity);
+        grid.insert(entity);
+        tracker.add(entity);
     }
 
     public void removeEntity(final EngineEntity entity) {
-        entities.remove(entity);
+        synchronized (entities) {
+            entities.remove(entity);
+            entitiesByUniqueId.remove(entity.getUniqueId(), entity);
+            entitiesById.remove(entity.getId(), entity);
+            entityNames.remove(entity);
+        }
+
+        worldIndex.remove(entity);
+        grid.remove(entity);
+        tracker.remove(entity);
+    }
+
+    /**
+     * Refresh the indexed name of an entity,
+     * after its custom name might have changed
+     *
+     * @param entity the entity
+     */
+    public void refreshName(final EngineEntity entity) {
+        synchronized (entities) {
+            if (entities.contains(entity)) entityNames.insert(entity, entity.getName());
+        }
+    }
+
+    /**
+     * Refresh the indexed name of every
+     * entity which is not a player. Custom
+     * names can be changed by commands or other
+     * plugins without firing any event
+     */
+    public void refreshNames() {
+        for (EngineEntity entity : entities) {
+            if (entity instanceof HumanPlayer) continue;
+
+            String name = entity.getName();
+            String indexed = entityNames.getName(entity);
+            if (name == null ? indexed == null : NameIndex.normalize(name).equals(indexed)) continue;
+
+            refreshName(entity);
+        }
+    }
+
+    /**
+     * Get the spatial index of the
+     * plugin-aware entities
+     *
+     * @return the entity grid
+     */
+    public EntityGrid getEntityGrid() {
+        return grid;
+    }
+
+    /**
+     * Get the per-world index of the
+     * plugin-aware entities
+     *
+     * @return the world index
+     */
+    public WorldEntityIndex getWorldIndex() {
+        return worldIndex;
     }
 
     /**
@@ -122,23 +415,28 @@ public class GameLibImpl extends GameLib {
             throw new UnsupportedOperationException("Not implemented");
         }
 
+        Playground playground;
         switch (shape) {
             case CUBE:
                 if (positions.length < 2) {
                     throw new PlaygroundPositionException(shape, 2, positions.length);
                 }
 
-                return new Cuboid(this, world, positions[0], positions[1]);
+                playground = new Cuboid(this, world, positions[0], positions[1]);
+                break;
             case SPHERE:
                 if (positions.length < 2) {
                     throw new PlaygroundPositionException(shape, 2, positions.length);
                 }
 
                 double radius = Math.abs(positions[0].distance(positions[1]));
-                return new Sphere(this, world, positions[0], radius);
+                playground = new Sphere(this, world, positions[0], radius);
+                break;
             default:
                 throw new IllegalStateException("Unsupported shape: " + shape.name());
         }
+
+        return playground;
     }
 
     public EntityData getEntityData() {
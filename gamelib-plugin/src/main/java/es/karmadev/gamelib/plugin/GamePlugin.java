@@ -8,6 +8,7 @@ import es.karmadev.gamelib.plugin.data.EntityData;
 import es.karmadev.gamelib.plugin.inject.GameModule;
 import es.karmadev.gamelib.plugin.listener.ListenerInitializer;
 import es.karmadev.gamelib.plugin.manager.communications.CertManager;
+import es.karmadev.gamelib.plugin.task.TaskInitializer;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.security.cert.X509Certificate;
@@ -19,6 +20,8 @@ public class GamePlugin extends JavaPlugin {
     @Inject
     private ListenerInitializer listenerInitializer;
     @Inject
+    private TaskInitializer taskInitializer;
+    @Inject
     private EntityData entityData;
     @Inject
     private GameLib lib;
@@ -45,6 +48,7 @@ public class GamePlugin extends JavaPlugin {
         }
 
         listenerInitializer.init(injector);
+        taskInitializer.init(injector);
     }
 
     private boolean isInvalidCertificate(final X509Certificate certificate) {
@@ -7,7 +7,9 @@ import es.karmadev.gamelib.serialization.FieldCollection;
 import es.karmadev.gamelib.serialization.GenericField;
 import es.karmadev.gamelib.serialization.KeyValueMap;
 import es.karmadev.gamelib.plugin.GameLibImpl;
+import es.karmadev.gamelib.pos.BlockPos;
 import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
@@ -27,6 +29,13 @@ import static es.karmadev.gamelib.serialization.GenericField.*;
 
 public class GameEntity implements EngineEntity {
 
+    /**
+     * Location the entity coordinates are read
+     * into, so reading them does not allocate
+     * a location on each call
+     */
+    final static ThreadLocal<Location> SCRATCH = ThreadLocal.withInitial(() -> new Location(null, 0, 0, 0));
+
     private final Entity entity;
 
     /**
@@ -98,6 +107,40 @@ public class GameEntity implements EngineEntity {
         return Position3D.fromLocation(entity.getLocation());
     }
 
+    /**
+     * Get the entity position as
+     * a vector
+     *
+     * @return the entity position vector
+     */
+    @Override
+    public Vec3 getPositionVector() {
+        Location location = entity.getLocation(SCRATCH.get());
+        return Vec3.of(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the entity block position
+     *
+     * @return the entity block position
+     */
+    @Override
+    public BlockPos getBlockPosition() {
+        Location location = entity.getLocation(SCRATCH.get());
+        return BlockPos.of(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Get the entity location, writing
+     * it into the provided location
+     *
+     * @param location the location to write to
+     * @return the provided location
+     */
+    public Location getLocation(final Location location) {
+        return entity.getLocation(location);
+    }
+
     /**
      * Get the entity world
      *
@@ -1,6 +1,7 @@
 package es.karmadev.gamelib.plugin.impl.entity;
 
 import es.karmadev.gamelib.Condition;
+import es.karmadev.gamelib.entity.hitbox.Hitbox;
 import es.karmadev.gamelib.entity.human.HumanPlayer;
 import es.karmadev.gamelib.plugin.GameLibImpl;
 import net.md_5.bungee.api.ChatMessageType;
@@ -323,4 +324,16 @@ public class GameHPlayer extends GameLivingEntity implements HumanPlayer {
     public double getHeadHeight() {
         return 0.6; //known constant
     }
+
+    /**
+     * Create the head of the player
+     *
+     * @param baby if the player is a baby
+     * @return the player head
+     */
+    @Override
+    protected Hitbox createHead(final boolean baby) {
+        Hitbox head = super.createHead(baby);
+        return new Hitbox(getHeadWidth(), getHeadHeight(), head.getHeadForward(), 0, 0, 0);
+    }
 }
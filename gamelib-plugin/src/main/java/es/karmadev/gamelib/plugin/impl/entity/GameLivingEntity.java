@@ -1,8 +1,12 @@
 package es.karmadev.gamelib.plugin.impl.entity;
 
 import es.karmadev.gamelib.entity.EngineLivingEntity;
+import es.karmadev.gamelib.entity.hitbox.Hitbox;
 import es.karmadev.gamelib.plugin.GameLibImpl;
+import es.karmadev.gamelib.plugin.manager.GameHitboxEngine;
 import es.karmadev.gamelib.pos.Position3D;
+import es.karmadev.gamelib.pos.Vec3;
+import es.karmadev.gamelib.sight.ViewCone;
 import org.bukkit.Location;
 import org.bukkit.entity.Ageable;
 import org.bukkit.entity.EntityType;
@@ -14,6 +18,13 @@ public class GameLivingEntity extends GameEntity implements EngineLivingEntity {
     private final GameLibImpl lib;
     private final LivingEntity entity;
 
+    /**
+     * The last look direction of the entity,
+     * computed again only when the entity
+     * rotates
+     */
+    private volatile Look look = new Look(0, 0);
+
     /**
      * Create a new engine entity
      *
@@ -29,55 +40,108 @@ public class GameLivingEntity extends GameEntity implements EngineLivingEntity {
     }
 
     /**
-     * Get the entity head width
+     * Get the entity head, which is
+     * shared by every entity of the same type,
+     * either adult or baby. Only the head sizes and
+     * forward distance of the head are set
      *
-     * @return the entity head width
+     * @return the entity head
      */
-    @Override
-    public double getHeadWidth() {
+    public Hitbox getHead() {
         EntityType type = entity.getType();
-        double mod = 0;
+        boolean baby = entity instanceof Ageable && !((Ageable) entity).isAdult();
 
-        if (entity instanceof Ageable) {
-            Ageable aged = (Ageable) entity;
-            for (int i = aged.getAge(); i > 0; i--) {
-                mod += 0.1;
-            }
+        GameHitboxEngine engine = lib.getHitboxEngine();
+        Hitbox head = engine.getHead(type, baby);
+        if (head == null) {
+            head = createHead(baby);
+            engine.setHead(type, baby, head);
         }
 
-        double value = lib.getEntityData().getHeadWidth(type);
-        if (value == -1d) {
-            value = 0.75;
-        }
+        return head;
+    }
+
+    /**
+     * Get the current entity hitbox. The
+     * head never exceeds the entity body
+     *
+     * @return the entity hitbox
+     */
+    public Hitbox getHitbox() {
+        Hitbox head = getHead();
+        double bodyWidth = getBodyWidth();
+        double bodyHeight = getBodyHeight();
 
-        value -= mod;
-        return Math.abs(value);
+        return new Hitbox(Math.min(head.getHeadWidth(), bodyWidth), Math.min(head.getHeadHeight(), bodyHeight),
+                head.getHeadForward(), getEyeHeight(), bodyWidth, bodyHeight);
     }
 
     /**
-     * Get the entity head height
+     * Get the entity eye height, which
+     * changes with the entity pose
      *
-     * @return the head height
+     * @return the eye height
+     */
+    public double getEyeHeight() {
+        return entity.getEyeHeight();
+    }
+
+    /**
+     * Get the entity body width
+     *
+     * @return the body width
+     */
+    public double getBodyWidth() {
+        return entity.getWidth();
+    }
+
+    /**
+     * Get the entity body height, which
+     * changes with the entity pose
+     *
+     * @return the body height
+     */
+    public double getBodyHeight() {
+        return entity.getHeight();
+    }
+
+    /**
+     * Get the unit direction the
+     * entity is looking at
+     *
+     * @return the entity look direction
      */
     @Override
-    public double getHeadHeight() {
-        EntityType type = entity.getType();
-        double mod = 0;
+    public Vec3 getLook() {
+        Location location = getLocation(SCRATCH.get());
 
-        if (entity instanceof Ageable) {
-            Ageable aged = (Ageable) entity;
-            for (int i = aged.getAge(); i > 0; i--) {
-                mod += 0.1;
-            }
+        Look current = look;
+        if (current.yaw != location.getYaw() || current.pitch != location.getPitch()) {
+            current = new Look(location.getYaw(), location.getPitch());
+            look = current;
         }
 
-        double value = lib.getEntityData().getHeadHeight(type);
-        if (value == -1d) {
-            value = 0.75;
-        }
+        return current.direction;
+    }
 
-        value -= mod;
-        return Math.abs(value);
+    /**
+     * Get the entity head width
+     *
+     * @return the entity head width
+     */
+    @Override
+    public double getHeadWidth() {
+        return getHitbox().getHeadWidth();
+    }
+
+    /**
+     * Get the entity head height
+     *
+     * @return the head height
+     */
+    @Override
+    public double getHeadHeight() {
+        return getHitbox().getHeadHeight();
     }
 
     /**
@@ -94,25 +158,64 @@ public class GameLivingEntity extends GameEntity implements EngineLivingEntity {
     public Position3D getHeadCenter() {
         Location location = entity.getEyeLocation().clone();
 
-        double xOffset = lib.getEntityData().getXOffset(entity.getType());
-        double yOffset = lib.getEntityData().getYOffset(entity.getType());
+        double forward = getHitbox().getHeadForward();
+        if (forward == 0) return Position3D.fromLocation(location);
 
-        if (xOffset == 0 && yOffset == 0) return Position3D.fromLocation(location);
-        if (entity instanceof Ageable) {
-            double mod = 0;
+        Vector direction = location.getDirection().setY(0).normalize().multiply(forward);
+        return Position3D.fromLocation(location.add(direction));
+    }
 
-            Ageable aged = (Ageable) entity;
-            for (int i = aged.getAge(); i > 0; i--) {
-                mod += 0.1;
-            }
+    /**
+     * Create the head of the entity
+     * type. Baby heads are half the adult
+     * size
+     *
+     * @param baby if the entity is a baby
+     * @return the entity head
+     */
+    protected Hitbox createHead(final boolean baby) {
+        EntityType type = entity.getType();
+        double scale = baby ? 0.5 : 1;
 
-            xOffset -= mod;
-            yOffset -= mod;
+        double width = lib.getEntityData().getHeadWidth(type);
+        if (width == -1d) {
+            width = 0.75;
         }
 
-        Vector other = new Vector(xOffset, yOffset, xOffset).normalize();
-        Vector direction = location.getDirection().setY(0).normalize().multiply(other);
+        double height = lib.getEntityData().getHeadHeight(type);
+        if (height == -1d) {
+            height = 0.75;
+        }
 
-        return Position3D.fromLocation(location.clone().add(direction));
+        double forward = 0;
+        double xOffset = lib.getEntityData().getXOffset(type);
+        double yOffset = lib.getEntityData().getYOffset(type);
+        if (xOffset != 0 || yOffset != 0) {
+            forward = new Vector(xOffset, yOffset, xOffset).normalize().getX() * scale;
+        }
+
+        return new Hitbox(Math.abs(width) * scale, Math.abs(height) * scale, forward, 0, 0, 0);
+    }
+
+    /**
+     * Look direction of a rotation
+     */
+    private final static class Look {
+
+        private final float yaw;
+        private final float pitch;
+        private final Vec3 direction;
+
+        /**
+         * Initialize the look direction
+         *
+         * @param yaw the rotation yaw
+         * @param pitch the rotation pitch
+         */
+        private Look(final float yaw, final float pitch) {
+            this.yaw = yaw;
+            this.pitch = pitch;
+            this.direction = ViewCone.look(yaw, pitch);
+        }
     }
 }
@@ -2,17 +2,12 @@ package es.karmadev.gamelib.plugin.impl.region;
 
 import es.karmadev.gamelib.entity.EngineEntity;
 import es.karmadev.gamelib.plugin.GameLibImpl;
-import es.karmadev.gamelib.plugin.impl.entity.GameEntity;
 import es.karmadev.gamelib.pos.Position3D;
 import es.karmadev.gamelib.region.shape.CuboidGround;
-import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.entity.Entity;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public class Cuboid extends CuboidGround {
 
@@ -38,22 +33,6 @@ public class Cuboid extends CuboidGround {
      */
     @Override
     public Collection<EngineEntity> getEntities() {
-        List<Entity> entities = world.getEntities();
-        double length = getVolume();
-
-        List<EngineEntity> engineEntities = new ArrayList<>();
-        for (Entity entity : entities) {
-            Location entityLocation = entity.getLocation();
-            double distance = distance(Position3D.fromLocation(entityLocation));
-
-            if (distance <= length) {
-                EngineEntity engineEntity = lib.getEntity(entity.getUniqueId());
-                if (engineEntity == null) engineEntity = new GameEntity(lib, entity);
-
-                engineEntities.add(engineEntity);
-            }
-        }
-
-        return engineEntities;
+        return lib.getEntities(this);
     }
 }
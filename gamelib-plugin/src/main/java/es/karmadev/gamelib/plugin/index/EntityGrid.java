@@ -0,0 +1,547 @@
+package es.karmadev.gamelib.plugin.index;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.entity.human.HumanPlayer;
+import es.karmadev.gamelib.plugin.impl.entity.GameEntity;
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.pos.Position3D;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Spatial index of the plugin-aware
+ * entities. Entities are bucketed by
+ * world and chunk column, so area queries
+ * only visit the cells which overlap the
+ * requested area, instead of every entity
+ * of the world
+ */
+public final class EntityGrid {
+
+    /**
+     * The cell size shift. Cells have the
+     * size of a chunk (16 blocks)
+     */
+    public final static int CELL_SHIFT = 4;
+
+    private final Map<UUID, Map<Long, Set<EngineEntity>>> worlds = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Insert an entity into the grid. If
+     * the entity is already indexed, its
+     * cell will be refreshed
+     *
+     * @param entity the entity to insert
+     */
+    public void insert(final EngineEntity entity) {
+        Entry entry = entries.compute(entity.getUniqueId(), (id, current) -> {
+            if (current != null && current.entity == entity) return current;
+            if (current != null) unlink(current);
+
+            return new Entry(entity);
+        });
+
+        Position3D position = entity.getPosition();
+        relocate(entry, position.getWorld(), position.getBlockX(), position.getBlockZ());
+    }
+
+    /**
+     * Remove an entity from the grid
+     *
+     * @param entity the entity to remove
+     */
+    public void remove(final EngineEntity entity) {
+        entries.computeIfPresent(entity.getUniqueId(), (id, current) -> {
+            if (current.entity != entity) return current;
+
+            unlink(current);
+            return null;
+        });
+    }
+
+    /**
+     * Move an indexed entity to the
+     * specified location. If the entity
+     * is not indexed, nothing happens
+     *
+     * @param uniqueId the entity unique ID
+     * @param to the location the entity moved to
+     * @return if the entity changed its cell
+     */
+    public boolean move(final UUID uniqueId, final Location to) {
+        Entry entry = entries.get(uniqueId);
+        if (entry == null || to == null) return false;
+
+        return relocate(entry, to.getWorld(), to.getBlockX(), to.getBlockZ());
+    }
+
+    /**
+     * Refresh the cell of every indexed
+     * entity which is not a player. Entities
+     * moved by their AI do not fire any movement
+     * event, so they must be re-bucketed on each
+     * tick. Players are kept up to date from
+     * their movement events instead
+     *
+     * @param moved the consumer of the entities
+     *              which moved to another block
+     */
+    public void refreshMovers(final Consumer<EngineEntity> moved) {
+        Location location = new Location(null, 0, 0, 0);
+        for (Entry entry : entries.values()) {
+            if (entry.entity instanceof HumanPlayer) continue;
+
+            World world;
+            int blockX, blockY, blockZ;
+            if (entry.entity instanceof GameEntity) {
+                ((GameEntity) entry.entity).getLocation(location);
+                world = location.getWorld();
+                blockX = location.getBlockX();
+                blockY = location.getBlockY();
+                blockZ = location.getBlockZ();
+            } else {
+                BlockPos position = entry.entity.getBlockPosition();
+                world = entry.entity.getWorld();
+                blockX = position.getX();
+                blockY = position.getY();
+                blockZ = position.getZ();
+            }
+
+            relocate(entry, world, blockX, blockZ);
+
+            long block = BlockPos.pack(blockX, blockY, blockZ);
+            if (block == entry.block && entry.blockWorld == world) continue;
+
+            entry.block = block;
+            entry.blockWorld = world;
+            moved.accept(entry.entity);
+        }
+    }
+
+    /**
+     * Visit all the entities whose cell
+     * overlaps the specified area. The area
+     * is only tested against the cells, so the
+     * consumer might receive entities which
+     * are slightly outside the area
+     *
+     * @param world the world to search at
+     * @param minX the area min X
+     * @param minZ the area min Z
+     * @param maxX the area max X
+     * @param maxZ the area max Z
+     * @param consumer the entity consumer
+     */
+    public void forEachIn(final World world, final double minX, final double minZ,
+                          final double maxX, final double maxZ, final Consumer<EngineEntity> consumer) {
+        if (world == null) return;
+
+        Map<Long, Set<EngineEntity>> cells = worlds.get(world.getUID());
+        if (cells == null || cells.isEmpty()) return;
+
+        int minCellX = toCell(minX);
+        int minCellZ = toCell(minZ);
+        int maxCellX = toCell(maxX);
+        int maxCellZ = toCell(maxZ);
+
+        long area = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+        if (area > cells.size()) {
+            /*
+            The area covers more cells than the
+            populated ones, so it's cheaper to
+            iterate the populated cells directly
+             */
+            for (Map.Entry<Long, Set<EngineEntity>> cell : cells.entrySet()) {
+                long key = cell.getKey();
+                int cellX = cellX(key);
+                int cellZ = cellZ(key);
+
+                if (cellX < minCellX || cellX > maxCellX ||
+                        cellZ < minCellZ || cellZ > maxCellZ) continue;
+
+                cell.getValue().forEach(consumer);
+            }
+
+            return;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Set<EngineEntity> cell = cells.get(cellKey(cellX, cellZ));
+                if (cell != null) cell.forEach(consumer);
+            }
+        }
+    }
+
+    /**
+     * Visit all the entities whose cell is
+     * within the margin of the segment. Only
+     * the cells the segment crosses, widened
+     * by the margin, are visited, column by
+     * column, so each cell is visited once
+     *
+     * @param world the world to search at
+     * @param fromX the segment start X
+     * @param fromZ the segment start Z
+     * @param toX the segment end X
+     * @param toZ the segment end Z
+     * @param margin the max distance from the
+     *               segment, in blocks
+     * @param consumer the entity consumer
+     */
+    public void forEachAlong(final World world, final double fromX, final double fromZ,
+                             final double toX, final double toZ, final double margin,
+                             final Consumer<EngineEntity> consumer) {
+        if (world == null) return;
+
+        Map<Long, Set<EngineEntity>> cells = worlds.get(world.getUID());
+        if (cells == null || cells.isEmpty()) return;
+
+        double minX = Math.min(fromX, toX);
+        double maxX = Math.max(fromX, toX);
+        double slopeZ = fromX == toX ? 0 : (toZ - fromZ) / (toX - fromX);
+
+        int maxCellX = toCell(maxX + margin);
+        for (int cellX = toCell(minX - margin); cellX <= maxCellX; cellX++) {
+            /*
+            Only the part of the segment within the
+            margin of the column can reach entities in
+            it, so its Z range bounds the column cells
+             */
+            double sliceMin = Math.max(minX, (cellX << CELL_SHIFT) - margin);
+            double sliceMax = Math.min(maxX, ((cellX + 1) << CELL_SHIFT) + margin);
+
+            double startZ = fromX == toX ? fromZ : fromZ + (sliceMin - fromX) * slopeZ;
+            double endZ = fromX == toX ? toZ : fromZ + (sliceMax - fromX) * slopeZ;
+
+            int maxCellZ = toCell(Math.max(startZ, endZ) + margin);
+            for (int cellZ = toCell(Math.min(startZ, endZ) - margin); cellZ <= maxCellZ; cellZ++) {
+                Set<EngineEntity> cell = cells.get(cellKey(cellX, cellZ));
+                if (cell != null) cell.forEach(consumer);
+            }
+        }
+    }
+
+    /**
+     * Iterate the entities within the radius
+     * of the coordinates, from the nearest to the
+     * farthest. Cells are visited in rings around
+     * the coordinates, and an entity is only returned
+     * once no unvisited cell can hold a nearer one, so
+     * the search stops as soon as the iteration does
+     *
+     * @param world the world to search at
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @param radius the search radius
+     * @param filter the entity filter
+     * @return the entities iterator
+     */
+    public Iterator<EngineEntity> nearest(final World world, final double x, final double y, final double z,
+                                          final double radius, final Predicate<? super EngineEntity> filter) {
+        if (world == null) return Collections.emptyIterator();
+
+        Map<Long, Set<EngineEntity>> cells = worlds.get(world.getUID());
+        if (cells == null || cells.isEmpty()) return Collections.emptyIterator();
+
+        return new NearestIterator(cells, x, y, z, radius, filter);
+    }
+
+    /**
+     * Drop all the cells of a world. The
+     * entities which were on the world are
+     * kept, and will be re-bucketed once they
+     * move into a loaded world
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        if (world == null) return;
+
+        UUID worldId = world.getUID();
+        worlds.remove(worldId);
+
+        for (Entry entry : entries.values()) {
+            synchronized (entry) {
+                if (worldId.equals(entry.world)) entry.linked = false;
+            }
+        }
+    }
+
+    /**
+     * Move an entry to the cell of the
+     * coordinates
+     *
+     * @param entry the entry
+     * @param world the entry world
+     * @param blockX the entry block X
+     * @param blockZ the entry block Z
+     * @return if the entry changed its cell
+     */
+    private boolean relocate(final Entry entry, final World world, final int blockX, final int blockZ) {
+        if (world == null) return false;
+
+        UUID worldId = world.getUID();
+        long key = cellKey(blockX >> CELL_SHIFT, blockZ >> CELL_SHIFT);
+
+        synchronized (entry) {
+            if (entry.linked && key == entry.cell && worldId.equals(entry.world)) return false;
+            if (entry.linked) unlink(entry);
+
+            worlds.computeIfAbsent(worldId, (id) -> new ConcurrentHashMap<>())
+                    .compute(key, (k, cell) -> {
+                        if (cell == null) cell = ConcurrentHashMap.newKeySet();
+                        cell.add(entry.entity);
+
+                        return cell;
+                    });
+
+            entry.world = worldId;
+            entry.cell = key;
+            entry.linked = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove an entry from its current
+     * cell
+     *
+     * @param entry the entry
+     */
+    private void unlink(final Entry entry) {
+        synchronized (entry) {
+            if (!entry.linked) return;
+            entry.linked = false;
+
+            Map<Long, Set<EngineEntity>> cells = worlds.get(entry.world);
+            if (cells == null) return;
+
+            cells.computeIfPresent(entry.cell, (k, cell) -> {
+                cell.remove(entry.entity);
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+    }
+
+    /**
+     * Get the cell of a coordinate
+     *
+     * @param coordinate the coordinate
+     * @return the cell coordinate
+     */
+    public static int toCell(final double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CELL_SHIFT;
+    }
+
+    /**
+     * Pack the cell coordinates into
+     * a single key
+     *
+     * @param cellX the cell X
+     * @param cellZ the cell Z
+     * @return the cell key
+     */
+    public static long cellKey(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the cell X of a cell key
+     *
+     * @param key the cell key
+     * @return the cell X
+     */
+    public static int cellX(final long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Get the cell Z of a cell key
+     *
+     * @param key the cell key
+     * @return the cell Z
+     */
+    public static int cellZ(final long key) {
+        return (int) key;
+    }
+
+    /**
+     * Best-first iterator over the cells
+     * around a position
+     */
+    private final static class NearestIterator implements Iterator<EngineEntity> {
+
+        private final static int CELL_SIZE = 1 << CELL_SHIFT;
+
+        private final Map<Long, Set<EngineEntity>> cells;
+        private final double x, y, z;
+        private final double radiusSquared;
+        private final Predicate<? super EngineEntity> filter;
+
+        private final int centerX, centerZ;
+        private final double edge;
+
+        private final PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        private final Set<EngineEntity> found = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private int ring;
+        private boolean exhausted;
+
+        private NearestIterator(final Map<Long, Set<EngineEntity>> cells, final double x, final double y, final double z,
+                                final double radius, final Predicate<? super EngineEntity> filter) {
+            this.cells = cells;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.radiusSquared = radius * radius;
+            this.filter = filter;
+
+            this.centerX = toCell(x);
+            this.centerZ = toCell(z);
+
+            double localX = x - (centerX << CELL_SHIFT);
+            double localZ = z - (centerZ << CELL_SHIFT);
+            this.edge = Math.min(Math.min(localX, CELL_SIZE - localX), Math.min(localZ, CELL_SIZE - localZ));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!exhausted) {
+                double bound = ringDistance(ring);
+                if (bound * bound > radiusSquared) {
+                    exhausted = true;
+                    break;
+                }
+
+                Candidate nearest = candidates.peek();
+                if (nearest != null && nearest.distance <= bound * bound) break;
+
+                visitRing();
+            }
+
+            return !candidates.isEmpty();
+        }
+
+        @Override
+        public EngineEntity next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return candidates.poll().entity;
+        }
+
+        /**
+         * Get the min distance from the
+         * position to any cell of the ring
+         *
+         * @param ring the ring
+         * @return the ring min distance
+         */
+        private double ringDistance(final int ring) {
+            if (ring == 0) return 0;
+            return (ring - 1) * CELL_SIZE + edge;
+        }
+
+        /**
+         * Visit the cells of the current
+         * ring. Once the ring covers more cells
+         * than the populated ones, the rest of the
+         * populated cells are visited at once
+         */
+        private void visitRing() {
+            int side = (ring << 1) + 1;
+            if ((long) side * side > cells.size()) {
+                for (Map.Entry<Long, Set<EngineEntity>> cell : cells.entrySet()) {
+                    long key = cell.getKey();
+                    int distance = Math.max(Math.abs(cellX(key) - centerX), Math.abs(cellZ(key) - centerZ));
+                    if (distance >= ring) visitCell(cell.getValue());
+                }
+
+                exhausted = true;
+                return;
+            }
+
+            if (ring == 0) {
+                visitCell(cells.get(cellKey(centerX, centerZ)));
+            } else {
+                for (int offset = -ring; offset <= ring; offset++) {
+                    visitCell(cells.get(cellKey(centerX + offset, centerZ - ring)));
+                    visitCell(cells.get(cellKey(centerX + offset, centerZ + ring)));
+                }
+                for (int offset = -ring + 1; offset < ring; offset++) {
+                    visitCell(cells.get(cellKey(centerX - ring, centerZ + offset)));
+                    visitCell(cells.get(cellKey(centerX + ring, centerZ + offset)));
+                }
+            }
+
+            ring++;
+        }
+
+        /**
+         * Add the entities of the cell which
+         * are within the radius to the candidates
+         *
+         * @param cell the cell
+         */
+        private void visitCell(final Set<EngineEntity> cell) {
+            if (cell == null) return;
+
+            for (EngineEntity entity : cell) {
+                Position3D position = entity.getPosition();
+                double dX = position.getX() - x;
+                double dY = position.getY() - y;
+                double dZ = position.getZ() - z;
+                double distance = dX * dX + dY * dY + dZ * dZ;
+
+                if (distance > radiusSquared || !filter.test(entity) || !found.add(entity)) continue;
+                candidates.add(new Candidate(entity, distance));
+            }
+        }
+    }
+
+    /**
+     * Represents an entity found by
+     * a nearest search
+     */
+    private final static class Candidate implements Comparable<Candidate> {
+
+        private final EngineEntity entity;
+        private final double distance;
+
+        private Candidate(final EngineEntity entity, final double distance) {
+            this.entity = entity;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(final Candidate other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+
+    /**
+     * Represents an indexed entity
+     */
+    private final static class Entry {
+
+        private final EngineEntity entity;
+
+        private UUID world;
+        private long cell;
+        private boolean linked;
+
+        private World blockWorld;
+        private long block;
+
+        private Entry(final EngineEntity entity) {
+            this.entity = entity;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package es.karmadev.gamelib.plugin.index;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.BlockPos;
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.index.PlaygroundRegistry;
+import es.karmadev.gamelib.region.track.RegionListener;
+import es.karmadev.gamelib.region.track.RegionTracker;
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Region tracker implementation. Players are
+ * marked as moved from their movement events, and
+ * the rest of entities by the {@link EntityGrid grid}
+ * when it refreshes them. Only the entities which moved
+ * to another block are tested again, against the candidate
+ * playgrounds of the {@link PlaygroundRegistry registry}.
+ * Entities are tested by the block they stand in, so the
+ * membership only changes when the block does
+ * <p>
+ * Membership is only modified on the {@link #tick() tick},
+ * which must run on the main thread
+ */
+public final class GameRegionTracker implements RegionTracker {
+
+    private final PlaygroundRegistry registry;
+    private final Logger logger;
+
+    private final Map<Playground, Region> regions = new ConcurrentHashMap<>();
+    private final Map<UUID, Tracked> entities = new ConcurrentHashMap<>();
+
+    private final Set<UUID> moved = ConcurrentHashMap.newKeySet();
+    private final Queue<Tracked> removed = new ConcurrentLinkedQueue<>();
+
+    private final Set<Region> changed = new LinkedHashSet<>();
+    private final Set<Region> inside = new HashSet<>();
+
+    /**
+     * Initialize the region tracker
+     *
+     * @param registry the playground registry
+     * @param logger the logger to report listener errors to
+     */
+    public GameRegionTracker(final PlaygroundRegistry registry, final Logger logger) {
+        this.registry = registry;
+        this.logger = logger;
+    }
+
+    /**
+     * Start tracking a playground
+     *
+     * @param playground the playground to track
+     */
+    @Override
+    public void track(final Playground playground) {
+        regions.computeIfAbsent(playground, (key) -> {
+            registry.acquire(playground);
+
+            /*
+            Entities already inside the playground
+            have not moved, so we mark every entity of
+            the world to be tested again
+             */
+            World world = playground.getWorld();
+            for (Tracked tracked : entities.values()) {
+                if (world.equals(tracked.world)) moved.add(tracked.entity.getUniqueId());
+            }
+
+            return new Region(playground);
+        });
+    }
+
+    /**
+     * Stop tracking a playground
+     *
+     * @param playground the playground to stop tracking
+     */
+    @Override
+    public void untrack(final Playground playground) {
+        Region region = regions.remove(playground);
+        if (region == null) return;
+
+        registry.release(playground);
+        region.removed = true;
+        for (EngineEntity member : region.members) {
+            Tracked tracked = entities.get(member.getUniqueId());
+            if (tracked != null) tracked.regions.remove(region);
+        }
+
+        region.members.clear();
+    }
+
+    /**
+     * Get if the playground is tracked
+     *
+     * @param playground the playground
+     * @return if the playground is tracked
+     */
+    @Override
+    public boolean isTracked(final Playground playground) {
+        return regions.containsKey(playground);
+    }
+
+    /**
+     * Add a listener to a playground
+     *
+     * @param playground the playground
+     * @param listener the listener to add
+     */
+    @Override
+    public void addListener(final Playground playground, final RegionListener listener) {
+        track(playground);
+
+        Region region = regions.get(playground);
+        if (region != null) region.listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener from a playground
+     *
+     * @param playground the playground
+     * @param listener the listener to remove
+     */
+    @Override
+    public void removeListener(final Playground playground, final RegionListener listener) {
+        Region region = regions.get(playground);
+        if (region != null) region.listeners.remove(listener);
+    }
+
+    /**
+     * Get the entities inside a tracked
+     * playground
+     *
+     * @param playground the playground
+     * @return the playground members
+     */
+    @Override
+    public Collection<EngineEntity> getMembers(final Playground playground) {
+        Region region = regions.get(playground);
+        if (region == null) return Collections.emptyList();
+
+        return Collections.unmodifiableCollection(region.members);
+    }
+
+    /**
+     * Get the tracked playgrounds the
+     * entity is inside of
+     *
+     * @param entity the entity
+     * @return the entity playgrounds
+     */
+    @Override
+    public Collection<Playground> getRegions(final EngineEntity entity) {
+        Tracked tracked = entities.get(entity.getUniqueId());
+        if (tracked == null) return Collections.emptyList();
+
+        return tracked.regions.stream().map((region) -> region.playground)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Start tracking an entity
+     *
+     * @param entity the entity
+     */
+    public void add(final EngineEntity entity) {
+        entities.compute(entity.getUniqueId(), (id, current) -> {
+            if (current != null && current.entity == entity) return current;
+            if (current != null) removed.add(current);
+
+            return new Tracked(entity);
+        });
+
+        moved.add(entity.getUniqueId());
+    }
+
+    /**
+     * Stop tracking an entity. The entity
+     * will leave all its playgrounds on the
+     * next tick
+     *
+     * @param entity the entity
+     */
+    public void remove(final EngineEntity entity) {
+        entities.computeIfPresent(entity.getUniqueId(), (id, current) -> {
+            if (current.entity != entity) return current;
+
+            removed.add(current);
+            return null;
+        });
+    }
+
+    /**
+     * Mark an entity as moved, so it
+     * gets tested again on the next tick
+     *
+     * @param uniqueId the entity unique ID
+     */
+    public void markMoved(final UUID uniqueId) {
+        if (entities.containsKey(uniqueId)) moved.add(uniqueId);
+    }
+
+    /**
+     * Drop the membership of all the
+     * entities on the world. They will be
+     * tested again once they move
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        for (Region region : regions.values()) {
+            if (world.equals(region.playground.getWorld())) untrack(region.playground);
+        }
+    }
+
+    /**
+     * Update the membership of the moved
+     * entities, and report the changes to
+     * the listeners
+     */
+    public void tick() {
+        Tracked leaving;
+        while ((leaving = removed.poll()) != null) {
+            for (Region region : leaving.regions) {
+                region.members.remove(leaving.entity);
+                region.left.add(leaving.entity);
+                changed.add(region);
+            }
+
+            leaving.regions.clear();
+        }
+
+        if (!moved.isEmpty()) {
+            Iterator<UUID> iterator = moved.iterator();
+            while (iterator.hasNext()) {
+                UUID uniqueId = iterator.next();
+                iterator.remove();
+
+                Tracked tracked = entities.get(uniqueId);
+                if (tracked != null) update(tracked);
+            }
+        }
+
+        if (changed.isEmpty()) return;
+        for (Region region : changed) {
+            if (region.entered.isEmpty() && region.left.isEmpty()) continue;
+
+            Collection<EngineEntity> entered = Collections.unmodifiableList(region.entered);
+            Collection<EngineEntity> left = Collections.unmodifiableList(region.left);
+            region.entered = new ArrayList<>();
+            region.left = new ArrayList<>();
+
+            if (region.removed) continue;
+            for (RegionListener listener : region.listeners) {
+                try {
+                    listener.onUpdate(region.playground, entered, left);
+                } catch (Throwable ex) {
+                    logger.log(Level.SEVERE, ex, () -> "A region listener failed to handle a playground update");
+                }
+            }
+        }
+
+        changed.clear();
+    }
+
+    /**
+     * Test an entity against the candidate
+     * playgrounds of the block it stands in
+     *
+     * @param tracked the tracked entity
+     */
+    private void update(final Tracked tracked) {
+        World world = tracked.entity.getWorld();
+        tracked.world = world;
+
+        if (world != null) {
+            BlockPos block = tracked.entity.getBlockPosition();
+            registry.forEachAtBlock(world, block.getX(), block.getY(), block.getZ(), (playground) -> {
+                Region region = regions.get(playground);
+                if (region != null) inside.add(region);
+            });
+        }
+
+        EngineEntity entity = tracked.entity;
+        for (Region region : inside) {
+            if (!tracked.regions.add(region)) continue;
+
+            region.members.add(entity);
+            region.entered.add(entity);
+            changed.add(region);
+        }
+
+        Iterator<Region> iterator = tracked.regions.iterator();
+        while (iterator.hasNext()) {
+            Region region = iterator.next();
+            if (inside.contains(region)) continue;
+
+            iterator.remove();
+            region.members.remove(entity);
+            region.left.add(entity);
+            changed.add(region);
+        }
+
+        inside.clear();
+    }
+
+    /**
+     * Represents a tracked playground
+     */
+    private final static class Region {
+
+        private final Playground playground;
+        private final Set<EngineEntity> members = ConcurrentHashMap.newKeySet();
+        private final List<RegionListener> listeners = new CopyOnWriteArrayList<>();
+
+        private List<EngineEntity> entered = new ArrayList<>();
+        private List<EngineEntity> left = new ArrayList<>();
+        private volatile boolean removed;
+
+        private Region(final Playground playground) {
+            this.playground = playground;
+        }
+    }
+
+    /**
+     * Represents a tracked entity
+     */
+    private final static class Tracked {
+
+        private final EngineEntity entity;
+        private final Set<Region> regions = ConcurrentHashMap.newKeySet();
+
+        private World world;
+
+        private Tracked(final EngineEntity entity) {
+            this.entity = entity;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package es.karmadev.gamelib.plugin.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Index of values by their name. Names
+ * are normalized to lower case, and kept
+ * sorted, so the values whose name starts
+ * with a prefix are found without visiting
+ * the other values. Lookups never lock, while
+ * the index changes are serialized
+ *
+ * @param <T> the indexed value type
+ */
+public final class NameIndex<T> {
+
+    private final ConcurrentSkipListMap<String, Set<T>> names = new ConcurrentSkipListMap<>();
+    private final Map<T, String> indexed = new ConcurrentHashMap<>();
+
+    /**
+     * Index a value by its name. If the
+     * value is already indexed with another
+     * name, it's moved to the new name
+     *
+     * @param value the value
+     * @param name the value name
+     */
+    public void insert(final T value, final String name) {
+        if (name == null) {
+            remove(value);
+            return;
+        }
+
+        String key = normalize(name);
+        synchronized (names) {
+            String current = indexed.get(value);
+            if (key.equals(current)) return;
+            if (current != null) unlink(value, current);
+
+            names.computeIfAbsent(key, (k) -> ConcurrentHashMap.newKeySet()).add(value);
+            indexed.put(value, key);
+        }
+    }
+
+    /**
+     * Remove a value from the index
+     *
+     * @param value the value to remove
+     */
+    public void remove(final T value) {
+        synchronized (names) {
+            String current = indexed.remove(value);
+            if (current != null) unlink(value, current);
+        }
+    }
+
+    /**
+     * Get the values with the name,
+     * ignoring case
+     *
+     * @param name the name
+     * @return the values with the name
+     */
+    public Collection<T> get(final String name) {
+        if (name == null) return Collections.emptySet();
+
+        Set<T> values = names.get(normalize(name));
+        if (values == null) return Collections.emptySet();
+
+        return Collections.unmodifiableSet(values);
+    }
+
+    /**
+     * Get the values whose name starts
+     * with the prefix, ignoring case, sorted
+     * by name
+     *
+     * @param prefix the name prefix
+     * @param limit the max amount of values
+     * @return the values whose name starts
+     * with the prefix
+     */
+    public List<T> startingWith(final String prefix, final int limit) {
+        if (prefix == null || limit <= 0) return Collections.emptyList();
+
+        String from = normalize(prefix);
+        List<T> values = new ArrayList<>();
+        for (Set<T> bucket : names.subMap(from, true, from + Character.MAX_VALUE, true).values()) {
+            for (T value : bucket) {
+                values.add(value);
+                if (values.size() == limit) return values;
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Get the name a value is
+     * indexed with
+     *
+     * @param value the value
+     * @return the normalized value name, or
+     * null if the value is not indexed
+     */
+    public String getName(final T value) {
+        return indexed.get(value);
+    }
+
+    /**
+     * Normalize a name
+     *
+     * @param name the name
+     * @return the normalized name
+     */
+    public static String normalize(final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Remove a value from the bucket
+     * of a name
+     *
+     * @param value the value
+     * @param name the normalized name
+     */
+    private void unlink(final T value, final String name) {
+        Set<T> bucket = names.get(name);
+        if (bucket == null) return;
+
+        bucket.remove(value);
+        if (bucket.isEmpty()) names.remove(name);
+    }
+}
@@ -0,0 +1,174 @@
+package es.karmadev.gamelib.plugin.index;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the plugin-aware entities,
+ * partitioned by world. Each world keeps
+ * its own entity set, so the entities of a
+ * world can be read without visiting the
+ * entities of the other worlds
+ */
+public final class WorldEntityIndex {
+
+    private final Map<UUID, Set<EngineEntity>> worlds = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Insert an entity into the partition
+     * of its world. If the entity is already
+     * indexed, its partition will be refreshed
+     *
+     * @param entity the entity to insert
+     */
+    public void insert(final EngineEntity entity) {
+        Entry entry = entries.compute(entity.getUniqueId(), (id, current) -> {
+            if (current != null && current.entity == entity) return current;
+            if (current != null) unlink(current);
+
+            return new Entry(entity);
+        });
+
+        relocate(entry, entity.getWorld());
+    }
+
+    /**
+     * Remove an entity from the index
+     *
+     * @param entity the entity to remove
+     */
+    public void remove(final EngineEntity entity) {
+        entries.computeIfPresent(entity.getUniqueId(), (id, current) -> {
+            if (current.entity != entity) return current;
+
+            unlink(current);
+            return null;
+        });
+    }
+
+    /**
+     * Move an indexed entity to the
+     * partition of the world. If the entity
+     * is not indexed, nothing happens
+     *
+     * @param uniqueId the entity unique ID
+     * @param world the world the entity moved to
+     * @return if the entity changed its partition
+     */
+    public boolean move(final UUID uniqueId, final World world) {
+        Entry entry = entries.get(uniqueId);
+        if (entry == null) return false;
+
+        return relocate(entry, world);
+    }
+
+    /**
+     * Get the entities of a world. The
+     * collection is a live read-only view of
+     * the world partition, until the world is
+     * {@link #removeWorld(World) removed}. Worlds
+     * without a partition, because no entity was
+     * ever indexed on them, get an empty collection
+     * which is never updated
+     *
+     * @param world the world
+     * @return the world entities
+     */
+    public Collection<EngineEntity> getEntities(final World world) {
+        if (world == null) return Collections.emptySet();
+
+        Set<EngineEntity> partition = worlds.get(world.getUID());
+        if (partition == null) return Collections.emptySet();
+
+        return Collections.unmodifiableSet(partition);
+    }
+
+    /**
+     * Drop the partition of a world. The
+     * entities of the world stay indexed, and
+     * are added back to a partition once they
+     * move to a world. Views of the dropped
+     * partition are not updated anymore
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        if (world == null) return;
+
+        UUID worldId = world.getUID();
+        Set<EngineEntity> partition = worlds.remove(worldId);
+        if (partition == null) return;
+
+        for (EngineEntity entity : partition) {
+            Entry entry = entries.get(entity.getUniqueId());
+            if (entry == null) continue;
+
+            synchronized (entry) {
+                if (worldId.equals(entry.world)) entry.world = null;
+            }
+        }
+    }
+
+    /**
+     * Move an entry to the partition
+     * of the world
+     *
+     * @param entry the entry
+     * @param world the entry world
+     * @return if the entry changed its partition
+     */
+    private boolean relocate(final Entry entry, final World world) {
+        if (world == null) return false;
+
+        UUID worldId = world.getUID();
+        synchronized (entry) {
+            if (worldId.equals(entry.world)) return false;
+            unlink(entry);
+
+            worlds.computeIfAbsent(worldId, (id) -> ConcurrentHashMap.newKeySet()).add(entry.entity);
+            entry.world = worldId;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove an entry from its current
+     * partition
+     *
+     * @param entry the entry
+     */
+    private void unlink(final Entry entry) {
+        synchronized (entry) {
+            if (entry.world == null) return;
+
+            Set<EngineEntity> partition = worlds.get(entry.world);
+            if (partition != null) partition.remove(entry.entity);
+
+            entry.world = null;
+        }
+    }
+
+    /**
+     * Represents an indexed entity, and
+     * the world partition it belongs to
+     */
+    private final static class Entry {
+
+        private final EngineEntity entity;
+
+        private UUID world;
+
+        private Entry(final EngineEntity entity) {
+            this.entity = entity;
+        }
+    }
+}
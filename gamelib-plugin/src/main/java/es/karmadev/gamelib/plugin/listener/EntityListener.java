@@ -10,9 +10,13 @@ import es.karmadev.gamelib.pos.Position3D;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.CreatureSpawnEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 
 @Singleton
@@ -118,6 +122,31 @@ public class EntityListener implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInteract(PlayerInteractEntityEvent e) {
+        EngineEntity engineEntity = lib.getEntity(e.getRightClicked().getUniqueId());
+        if (engineEntity == null) return;
+
+        plugin.getServer().getScheduler().runTask(plugin, () -> lib.refreshName(engineEntity));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRemove(EntityRemoveEvent e) {
+        forget(e.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent e) {
+        for (Entity entity : e.getEntities()) forget(entity);
+    }
+
+    private void forget(final Entity entity) {
+        if (entity instanceof Player) return;
+
+        EngineEntity engineEntity = lib.getEntity(entity.getUniqueId());
+        if (engineEntity != null) lib.removeEntity(engineEntity);
+    }
+
     @EventHandler
     public void onDeath(EntityDeathEvent e) {
         Entity entity = e.getEntity();
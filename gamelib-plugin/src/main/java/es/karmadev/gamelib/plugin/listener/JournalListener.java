@@ -0,0 +1,130 @@
+package es.karmadev.gamelib.plugin.listener;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import es.karmadev.gamelib.plugin.GameLibImpl;
+import es.karmadev.gamelib.plugin.manager.GameJournalRecorder;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.*;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+
+import java.util.List;
+
+@Singleton
+public class JournalListener implements Listener {
+
+    @Inject
+    private GameLibImpl lib;
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent e) {
+        GameJournalRecorder recorder = lib.getJournalRecorder();
+        if (e instanceof BlockMultiPlaceEvent) {
+            for (BlockState state : ((BlockMultiPlaceEvent) e).getReplacedBlockStates()) {
+                recorder.record(state.getBlock(), state.getBlockData());
+            }
+
+            return;
+        }
+
+        /*
+        The block has already been placed, so
+        the original state is the replaced one
+         */
+        BlockState replaced = e.getBlockReplacedState();
+        recorder.record(e.getBlockPlaced(), replaced.getBlockData());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent e) {
+        recordAll(e.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+        recordAll(e.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBurn(BlockBurnEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFlow(BlockFromToEvent e) {
+        lib.getJournalRecorder().record(e.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFade(BlockFadeEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onForm(BlockFormEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpread(BlockSpreadEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent e) {
+        lib.getJournalRecorder().record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent e) {
+        recordPiston(e, e.getBlocks(), e.getBlock().getRelative(e.getDirection()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent e) {
+        recordPiston(e, e.getBlocks(), e.getBlock().getRelative(e.getDirection().getOppositeFace()));
+    }
+
+    private void recordAll(final List<Block> blocks) {
+        GameJournalRecorder recorder = lib.getJournalRecorder();
+        for (Block block : blocks) {
+            recorder.record(block);
+        }
+    }
+
+    private void recordPiston(final BlockPistonEvent e, final List<Block> blocks, final Block head) {
+        GameJournalRecorder recorder = lib.getJournalRecorder();
+        BlockFace direction = e.getDirection();
+
+        recorder.record(e.getBlock());
+        recorder.record(head);
+        for (Block block : blocks) {
+            recorder.record(block);
+            recorder.record(block.getRelative(direction));
+        }
+    }
+}
@@ -24,5 +24,8 @@ public class ListenerInitializer implements Initializer {
     public void init(@NotNull Injector injector) {
         manager.registerEvents(injector.getInstance(EntityListener.class), plugin);
         manager.registerEvents(injector.getInstance(ConnectionListener.class), plugin);
+        manager.registerEvents(injector.getInstance(MovementListener.class), plugin);
+        manager.registerEvents(injector.getInstance(JournalListener.class), plugin);
+        manager.registerEvents(injector.getInstance(SightListener.class), plugin);
     }
 }
@@ -0,0 +1,87 @@
+package es.karmadev.gamelib.plugin.listener;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import es.karmadev.gamelib.plugin.GameLibImpl;
+import es.karmadev.gamelib.plugin.index.EntityGrid;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.UUID;
+
+@Singleton
+public class MovementListener implements Listener {
+
+    @Inject
+    private GameLibImpl lib;
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent e) {
+        Location from = e.getFrom();
+        Location to = e.getTo();
+        if (to == null) return;
+
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() &&
+                from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld()) return;
+
+        UUID uniqueId = e.getPlayer().getUniqueId();
+        lib.getRegionTracker().markMoved(uniqueId);
+
+        if (from.getBlockX() >> EntityGrid.CELL_SHIFT == to.getBlockX() >> EntityGrid.CELL_SHIFT &&
+                from.getBlockZ() >> EntityGrid.CELL_SHIFT == to.getBlockZ() >> EntityGrid.CELL_SHIFT &&
+                from.getWorld() == to.getWorld()) return;
+
+        lib.getEntityGrid().move(uniqueId, to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent e) {
+        Location to = e.getTo();
+
+        lib.getRegionTracker().markMoved(e.getPlayer().getUniqueId());
+        lib.getEntityGrid().move(e.getPlayer().getUniqueId(), to);
+        if (to != null) lib.getWorldIndex().move(e.getPlayer().getUniqueId(), to.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityTeleport(EntityTeleportEvent e) {
+        Location to = e.getTo();
+
+        lib.getRegionTracker().markMoved(e.getEntity().getUniqueId());
+        lib.getEntityGrid().move(e.getEntity().getUniqueId(), to);
+        if (to != null) lib.getWorldIndex().move(e.getEntity().getUniqueId(), to.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent e) {
+        lib.getRegionTracker().markMoved(e.getPlayer().getUniqueId());
+        lib.getEntityGrid().move(e.getPlayer().getUniqueId(), e.getPlayer().getLocation());
+        lib.getWorldIndex().move(e.getPlayer().getUniqueId(), e.getPlayer().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent e) {
+        lib.getRegionTracker().markMoved(e.getPlayer().getUniqueId());
+        lib.getEntityGrid().move(e.getPlayer().getUniqueId(), e.getRespawnLocation());
+        lib.getWorldIndex().move(e.getPlayer().getUniqueId(), e.getRespawnLocation().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent e) {
+        lib.getEntityGrid().removeWorld(e.getWorld());
+        lib.getWorldIndex().removeWorld(e.getWorld());
+        lib.getPlaygroundRegistry().removeWorld(e.getWorld());
+        lib.getRegionTracker().removeWorld(e.getWorld());
+        lib.getJournalRecorder().removeWorld(e.getWorld());
+        lib.getSightCache().removeWorld(e.getWorld());
+        lib.getSightSnapshot().removeWorld(e.getWorld());
+    }
+}
@@ -0,0 +1,148 @@
+package es.karmadev.gamelib.plugin.listener;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import es.karmadev.gamelib.plugin.GameLibImpl;
+import es.karmadev.gamelib.region.scan.PlaygroundChunks;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.*;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+
+import java.util.*;
+
+@Singleton
+public class SightListener implements Listener {
+
+    @Inject
+    private GameLibImpl lib;
+
+    private final Map<World, Set<Long>> pending = new HashMap<>();
+    private boolean scheduled;
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent e) {
+        invalidate(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent e) {
+        if (e instanceof BlockMultiPlaceEvent) {
+            for (BlockState state : ((BlockMultiPlaceEvent) e).getReplacedBlockStates()) {
+                invalidate(state.getBlock());
+            }
+
+            return;
+        }
+
+        invalidate(e.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent e) {
+        invalidateAll(e.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent e) {
+        invalidate(e.getBlock());
+        invalidateAll(e.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBurn(BlockBurnEvent e) {
+        invalidate(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFade(BlockFadeEvent e) {
+        invalidate(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onForm(BlockFormEvent e) {
+        invalidate(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpread(BlockSpreadEvent e) {
+        invalidate(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFlow(BlockFromToEvent e) {
+        invalidate(e.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChange(EntityChangeBlockEvent e) {
+        invalidate(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent e) {
+        invalidatePiston(e, e.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent e) {
+        invalidatePiston(e, e.getBlocks());
+    }
+
+    private void invalidateAll(final List<Block> blocks) {
+        for (Block block : blocks) {
+            invalidate(block);
+        }
+    }
+
+    private void invalidatePiston(final BlockPistonEvent e, final List<Block> blocks) {
+        BlockFace direction = e.getDirection();
+
+        invalidate(e.getBlock().getRelative(direction));
+        for (Block block : blocks) {
+            invalidate(block);
+            invalidate(block.getRelative(direction));
+        }
+    }
+
+    private void invalidate(final Block block) {
+        World world = block.getWorld();
+        int chunkX = block.getX() >> 4;
+        int chunkZ = block.getZ() >> 4;
+        invalidate(world, chunkX, chunkZ);
+
+        /*
+        Monitor handlers run before the block
+        changes, so a trace between now and the
+        change would cache the old block. The chunk
+        is invalidated again once the change applied
+         */
+        if (pending.computeIfAbsent(world, (key) -> new HashSet<>()).add(PlaygroundChunks.pack(chunkX, chunkZ)) && !scheduled) {
+            scheduled = true;
+            lib.runSync(this::invalidatePending);
+        }
+    }
+
+    private void invalidatePending() {
+        scheduled = false;
+        for (Map.Entry<World, Set<Long>> entry : pending.entrySet()) {
+            World world = entry.getKey();
+            for (long chunk : entry.getValue()) {
+                invalidate(world, PlaygroundChunks.chunkX(chunk), PlaygroundChunks.chunkZ(chunk));
+            }
+        }
+
+        pending.clear();
+    }
+
+    private void invalidate(final World world, final int chunkX, final int chunkZ) {
+        lib.getSightCache().invalidate(world, chunkX, chunkZ);
+        lib.getSightSnapshot().markDirty(world, chunkX, chunkZ);
+    }
+}
@@ -0,0 +1,184 @@
+package es.karmadev.gamelib.plugin.manager;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.entity.hitbox.HitPart;
+import es.karmadev.gamelib.entity.hitbox.HitResult;
+import es.karmadev.gamelib.entity.hitbox.Hitbox;
+import es.karmadev.gamelib.entity.hitbox.HitboxEngine;
+import es.karmadev.gamelib.plugin.impl.entity.GameLivingEntity;
+import es.karmadev.gamelib.plugin.index.EntityGrid;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+
+import java.util.function.Predicate;
+
+/**
+ * Hitbox engine implementation. Head boxes
+ * are computed once per entity type, for adults
+ * and babies, while the body size and eye height are
+ * read from every entity when it's traced. Shots are
+ * only tested against the entities whose grid cell
+ * is near the cells the shot ray crosses
+ */
+public final class GameHitboxEngine implements HitboxEngine {
+
+    /**
+     * The max distance from the entity
+     * position to its hitbox sides
+     */
+    private final static double MAX_REACH = 4;
+
+    private final EntityGrid grid;
+    private final Hitbox[] heads = new Hitbox[EntityType.values().length << 1];
+
+    /**
+     * Initialize the hitbox engine
+     *
+     * @param grid the entity grid
+     */
+    public GameHitboxEngine(final EntityGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Get the cached head of an entity type.
+     * Only the head sizes and forward distance of
+     * the returned hitbox are set
+     *
+     * @param type the entity type
+     * @param baby if the entity is a baby
+     * @return the head, or null if it's
+     * not cached yet
+     */
+    public Hitbox getHead(final EntityType type, final boolean baby) {
+        return heads[type.ordinal() << 1 | (baby ? 1 : 0)];
+    }
+
+    /**
+     * Cache the head of an entity type. Heads
+     * are immutable and computed the same way for
+     * every entity of the type, so a concurrent
+     * computation just replaces an equal head
+     *
+     * @param type the entity type
+     * @param baby if the entity is a baby
+     * @param head the head
+     */
+    public void setHead(final EntityType type, final boolean baby, final Hitbox head) {
+        heads[type.ordinal() << 1 | (baby ? 1 : 0)] = head;
+    }
+
+    /**
+     * Get the current hitbox of an entity
+     *
+     * @param entity the entity
+     * @return the entity hitbox, or null if
+     * the entity has no hitbox
+     */
+    @Override
+    public Hitbox getHitbox(final EngineEntity entity) {
+        if (!(entity instanceof GameLivingEntity)) return null;
+        return ((GameLivingEntity) entity).getHitbox();
+    }
+
+    /**
+     * Trace a shot against every entity near
+     * the ray, keeping the nearest hit
+     *
+     * @param world the shot world
+     * @param originX the shot origin X
+     * @param originY the shot origin Y
+     * @param originZ the shot origin Z
+     * @param directionX the shot direction X
+     * @param directionY the shot direction Y
+     * @param directionZ the shot direction Z
+     * @param maxDistance the shot max distance, in blocks
+     * @param filter the entities which can be hit
+     * @param result the result to write the nearest
+     *               hit into
+     * @return if an entity was hit
+     */
+    @Override
+    public boolean trace(final World world, final double originX, final double originY, final double originZ,
+                         final double directionX, final double directionY, final double directionZ,
+                         final double maxDistance, final Predicate<? super EngineEntity> filter, final HitResult result) {
+        result.reset();
+
+        double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        if (length == 0 || maxDistance <= 0) return false;
+
+        double unitX = directionX / length;
+        double unitY = directionY / length;
+        double unitZ = directionZ / length;
+
+        double endX = originX + unitX * maxDistance;
+        double endZ = originZ + unitZ * maxDistance;
+
+        Location location = new Location(world, 0, 0, 0);
+        grid.forEachAlong(world, originX, originZ, endX, endZ, MAX_REACH, (entity) -> {
+            if (!(entity instanceof GameLivingEntity) || !filter.test(entity)) return;
+
+            /*
+            The coordinates are read into the location
+            instead of allocating a position, and the body
+            is read from the entity, as its size and eye
+            height change with its pose
+             */
+            GameLivingEntity living = (GameLivingEntity) entity;
+            living.getLocation(location);
+            hit(entity, living.getHead(), location.getX(), location.getY(), location.getZ(), location.getYaw(),
+                    living.getEyeHeight(), living.getBodyWidth(), living.getBodyHeight(),
+                    originX, originY, originZ, unitX, unitY, unitZ, maxDistance, result);
+        });
+
+        return result.isHit();
+    }
+
+    /**
+     * Test a shot against an entity, replacing
+     * the result hit if the entity is hit nearer.
+     * The head never exceeds the entity body
+     *
+     * @param entity the entity
+     * @param head the entity type head
+     * @param x the entity X
+     * @param y the entity Y
+     * @param z the entity Z
+     * @param yaw the entity yaw
+     * @param eyeHeight the entity eye height
+     * @param bodyWidth the entity width
+     * @param bodyHeight the entity height
+     * @param originX the shot origin X
+     * @param originY the shot origin Y
+     * @param originZ the shot origin Z
+     * @param unitX the shot unit direction X
+     * @param unitY the shot unit direction Y
+     * @param unitZ the shot unit direction Z
+     * @param maxDistance the shot max distance, in blocks
+     * @param result the nearest hit so far
+     */
+    static void hit(final EngineEntity entity, final Hitbox head,
+                    final double x, final double y, final double z, final float yaw,
+                    final double eyeHeight, final double bodyWidth, final double bodyHeight,
+                    final double originX, final double originY, final double originZ,
+                    final double unitX, final double unitY, final double unitZ,
+                    final double maxDistance, final HitResult result) {
+        /*
+        The head is tested along the whole ray, so
+        a headshot is detected even if the body is
+        entered first
+         */
+        double headDistance = Hitbox.intersectHead(x, y, z, yaw,
+                Math.min(head.getHeadWidth(), bodyWidth), Math.min(head.getHeadHeight(), bodyHeight),
+                head.getHeadForward(), eyeHeight,
+                originX, originY, originZ, unitX, unitY, unitZ, maxDistance);
+        double bodyDistance = Hitbox.intersectBody(x, y, z, bodyWidth, bodyHeight,
+                originX, originY, originZ, unitX, unitY, unitZ, Math.min(maxDistance, result.getDistance()));
+
+        double distance = Math.min(headDistance, bodyDistance);
+        if (distance < result.getDistance()) {
+            result.set(entity, distance, headDistance != Hitbox.NO_HIT ? HitPart.HEAD : HitPart.BODY);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package es.karmadev.gamelib.plugin.manager;
+
+import es.karmadev.gamelib.region.Playground;
+import es.karmadev.gamelib.region.edit.ChangeJournal;
+import es.karmadev.gamelib.region.edit.JournalRecorder;
+import es.karmadev.gamelib.region.index.PlaygroundRegistry;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Journal recorder implementation. The block
+ * events are reported to the recorder, which records
+ * the block original state into the journals of the
+ * playgrounds containing the block. Recorded playgrounds
+ * are held on the playground registry, so the playgrounds
+ * containing the block are looked up on the registry index
+ */
+public final class GameJournalRecorder implements JournalRecorder {
+
+    private final PlaygroundRegistry registry;
+    private final Map<Playground, ChangeJournal> journals = new ConcurrentHashMap<>();
+
+    /**
+     * Initialize the journal recorder
+     *
+     * @param registry the playground registry
+     */
+    public GameJournalRecorder(final PlaygroundRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Start recording the block changes
+     * of a playground
+     *
+     * @param playground the playground
+     * @return the playground journal
+     */
+    @Override
+    public ChangeJournal start(final Playground playground) {
+        return journals.computeIfAbsent(playground, (key) -> {
+            registry.acquire(playground);
+            return new ChangeJournal(playground);
+        });
+    }
+
+    /**
+     * Stop recording the block changes
+     * of a playground
+     *
+     * @param playground the playground
+     * @return the playground journal
+     */
+    @Override
+    public @Nullable ChangeJournal stop(final Playground playground) {
+        ChangeJournal journal = journals.remove(playground);
+        if (journal != null) registry.release(playground);
+
+        return journal;
+    }
+
+    /**
+     * Get the journal of a playground
+     *
+     * @param playground the playground
+     * @return the playground journal
+     */
+    @Override
+    public @Nullable ChangeJournal getJournal(final Playground playground) {
+        return journals.get(playground);
+    }
+
+    /**
+     * Record the current state of the block
+     * into the journals containing it
+     *
+     * @param block the block which is about to change
+     */
+    public void record(final Block block) {
+        if (journals.isEmpty()) return;
+        record(block, block.getBlockData());
+    }
+
+    /**
+     * Record the original state of the block
+     * into the journals containing it
+     *
+     * @param block the changed block
+     * @param original the block original state
+     */
+    public void record(final Block block, final BlockData original) {
+        if (journals.isEmpty()) return;
+
+        int x = block.getX();
+        int y = block.getY();
+        int z = block.getZ();
+
+        registry.forEachAtBlock(block.getWorld(), x, y, z, (playground) -> {
+            ChangeJournal journal = journals.get(playground);
+            if (journal != null) journal.record(x, y, z, original);
+        });
+    }
+
+    /**
+     * Stop recording the playgrounds
+     * of the world
+     *
+     * @param world the world
+     */
+    public void removeWorld(final World world) {
+        journals.keySet().removeIf((playground) -> world.equals(playground.getWorld()));
+    }
+}
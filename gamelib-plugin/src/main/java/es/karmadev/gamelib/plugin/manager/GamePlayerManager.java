@@ -10,15 +10,14 @@ import es.karmadev.gamelib.plugin.GameLibImpl;
 import es.karmadev.gamelib.plugin.Preconditions;
 import es.karmadev.gamelib.plugin.impl.entity.GameHPlayer;
 import es.karmadev.gamelib.plugin.impl.entity.GameOfflinePlayer;
+import es.karmadev.gamelib.plugin.index.NameIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
@@ -29,6 +28,7 @@ public class GamePlayerManager implements PlayerManager {
 
     private final Collection<HumanOffline> offlinePlayers = ConcurrentHashMap.newKeySet();
     private final Collection<HumanPlayer> onlinePlayers = ConcurrentHashMap.newKeySet();
+    private final NameIndex<HumanPlayer> onlineNames = new NameIndex<>();
 
     @Inject
     public GamePlayerManager(final GameLibImpl lib) {
@@ -58,6 +58,49 @@ public class GamePlayerManager implements PlayerManager {
         return Collections.unmodifiableCollection(onlinePlayers);
     }
 
+    /**
+     * Get a player by its name
+     *
+     * @param name the player name
+     * @return the player
+     */
+    @Override
+    public @Nullable HumanPlayer getPlayer(final @NotNull String name) {
+        for (HumanPlayer player : onlineNames.get(name)) {
+            if (player.getName().equals(name)) return player;
+        }
+
+        return null;
+    }
+
+    /**
+     * Get a player by its name,
+     * ignoring case
+     *
+     * @param name the player name
+     * @return the player
+     */
+    @Override
+    public @Nullable HumanPlayer getPlayerIgnoreCase(final @NotNull String name) {
+        Iterator<HumanPlayer> players = onlineNames.get(name).iterator();
+        return players.hasNext() ? players.next() : null;
+    }
+
+    /**
+     * Get the online players whose name
+     * starts with the prefix, ignoring case,
+     * sorted by name
+     *
+     * @param prefix the name prefix
+     * @param limit the max amount of players
+     * @return the players whose name starts
+     * with the prefix
+     */
+    @Override
+    public @NotNull List<? extends HumanPlayer> getPlayersByPrefix(final @NotNull String prefix, final int limit) {
+        return onlineNames.startingWith(prefix, limit);
+    }
+
     /**
      * Create a player from the player
      * object
@@ -75,6 +118,7 @@ public class GamePlayerManager implements PlayerManager {
         if (online == null) {
             online = new GameHPlayer(lib, player);
             onlinePlayers.add(online);
+            onlineNames.insert(online, online.getName());
         }
 
         return online;
@@ -108,5 +152,6 @@ public class GamePlayerManager implements PlayerManager {
 
     public void removePlayer(final HumanPlayer player) {
         this.onlinePlayers.remove(player);
+        this.onlineNames.remove(player);
     }
 }
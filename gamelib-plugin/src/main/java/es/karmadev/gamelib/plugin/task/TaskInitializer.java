@@ -0,0 +1,76 @@
+package es.karmadev.gamelib.plugin.task;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import es.karmadev.gamelib.plugin.GameLibImpl;
+import es.karmadev.gamelib.plugin.GamePlugin;
+import es.karmadev.gamelib.plugin.index.GameRegionTracker;
+import es.karmadev.gamelib.plugin.inject.Initializer;
+import es.karmadev.gamelib.sight.SightSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+@Singleton
+public class TaskInitializer implements Initializer {
+
+    private final GamePlugin plugin;
+    private final GameLibImpl lib;
+
+    @Inject
+    public TaskInitializer(final GamePlugin plugin, final GameLibImpl lib) {
+        this.plugin = plugin;
+        this.lib = lib;
+    }
+
+    @Override
+    public void init(@NotNull Injector injector) {
+        BukkitScheduler scheduler = plugin.getServer().getScheduler();
+        scheduler.runTaskTimer(plugin, () -> {
+            GameRegionTracker tracker = lib.getRegionTracker();
+            lib.getEntityGrid().refreshMovers((entity) -> tracker.markMoved(entity.getUniqueId()));
+            tracker.tick();
+            updateSnapshots();
+        }, 1L, 1L);
+        scheduler.runTaskTimer(plugin, lib::refreshNames, 20L, 20L);
+    }
+
+    /**
+     * Capture the chunks around the players which
+     * are not captured yet or were modified, so the
+     * lines of sight can be traced asynchronously
+     */
+    private void updateSnapshots() {
+        Map<World, Set<Long>> wanted = new HashMap<>();
+        int radius = SightSnapshot.DEFAULT_RADIUS;
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            Location location = player.getLocation();
+            World world = location.getWorld();
+            if (world == null) continue;
+
+            Set<Long> chunks = wanted.computeIfAbsent(world, (w) -> new HashSet<>());
+            int chunkX = location.getBlockX() >> 4;
+            int chunkZ = location.getBlockZ() >> 4;
+            for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+                for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                    chunks.add(SightSnapshot.chunkKey(x, z));
+                }
+            }
+        }
+
+        SightSnapshot snapshot = lib.getSightSnapshot();
+        Set<UUID> worlds = new HashSet<>();
+        for (Map.Entry<World, Set<Long>> entry : wanted.entrySet()) {
+            snapshot.update(entry.getKey(), entry.getValue());
+            worlds.add(entry.getKey().getUID());
+        }
+
+        snapshot.retainWorlds(worlds);
+    }
+}
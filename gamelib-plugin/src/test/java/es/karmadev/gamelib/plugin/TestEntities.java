@@ -0,0 +1,80 @@
+package es.karmadev.gamelib.plugin;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.Position3D;
+import org.bukkit.World;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * Fake worlds and entities for the
+ * tests. Calls to methods which are not
+ * faked fail
+ */
+public final class TestEntities {
+
+    private TestEntities() {}
+
+    /**
+     * Create a fake world, which only
+     * has a unique ID
+     *
+     * @return the world
+     */
+    public static World world() {
+        UUID id = UUID.randomUUID();
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class[]{World.class},
+                (world, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUID":
+                            return id;
+                        case "getName":
+                        case "toString":
+                            return "world-" + id;
+                        case "equals":
+                            return world == args[0];
+                        case "hashCode":
+                            return id.hashCode();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Create a fake entity standing
+     * at the coordinates
+     *
+     * @param world the entity world
+     * @param x the entity X
+     * @param y the entity Y
+     * @param z the entity Z
+     * @return the entity
+     */
+    public static EngineEntity entity(final World world, final double x, final double y, final double z) {
+        UUID id = UUID.randomUUID();
+        Position3D position = new Position3D(world, x, y, z, 0, 0, true);
+        return (EngineEntity) Proxy.newProxyInstance(EngineEntity.class.getClassLoader(), new Class[]{EngineEntity.class},
+                (entity, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUniqueId":
+                            return id;
+                        case "getWorld":
+                            return world;
+                        case "getPosition":
+                            return position;
+                        case "getBlockPosition":
+                            return position.toBlockPos();
+                        case "toString":
+                            return "entity(" + x + ", " + y + ", " + z + ")";
+                        case "equals":
+                            return entity == args[0];
+                        case "hashCode":
+                            return id.hashCode();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,182 @@
+package es.karmadev.gamelib.plugin.index;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.pos.Position3D;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static es.karmadev.gamelib.plugin.TestEntities.entity;
+import static es.karmadev.gamelib.plugin.TestEntities.world;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityGridTest {
+
+    @Test
+    void testNearestOrder() {
+        World world = world();
+        EntityGrid grid = new EntityGrid();
+        List<EngineEntity> entities = populate(grid, world, new Random(3), 600, 100);
+
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * 240 - 120;
+            double z = random.nextDouble() * 240 - 120;
+            if (i % 2 == 0) {
+                //Centers right on a cell edge
+                x = Math.round(x / 16) * 16 + (random.nextBoolean() ? 0.01 : -0.01);
+                z = Math.round(z / 16) * 16;
+            }
+
+            double radius = 5 + random.nextDouble() * 60;
+            assertNearest(grid, world, entities, x, 64, z, radius, Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void testNearestSparse() {
+        World world = world();
+        EntityGrid grid = new EntityGrid();
+        List<EngineEntity> entities = populate(grid, world, new Random(7), 6, 2000);
+
+        /*
+        The rings soon cover more cells than the
+        populated ones, so the remaining cells are
+        visited at once
+         */
+        Random random = new Random(11);
+        for (int i = 0; i < 100; i++) {
+            double x = random.nextDouble() * 4000 - 2000;
+            double z = random.nextDouble() * 4000 - 2000;
+            assertNearest(grid, world, entities, x, 64, z, 5000, Integer.MAX_VALUE);
+            assertNearest(grid, world, entities, x, 64, z, 1500, 2);
+        }
+    }
+
+    @Test
+    void testNearestLimit() {
+        World world = world();
+        EntityGrid grid = new EntityGrid();
+        List<EngineEntity> entities = populate(grid, world, new Random(13), 2000, 500);
+
+        Random random = new Random(17);
+        for (int i = 0; i < 50; i++) {
+            double x = random.nextDouble() * 800 - 400;
+            double z = random.nextDouble() * 800 - 400;
+            assertNearest(grid, world, entities, x, 64, z, 300, 5);
+        }
+
+        //Only the cells near the center are visited
+        AtomicInteger tested = new AtomicInteger();
+        Iterator<EngineEntity> iterator = grid.nearest(world, 0, 64, 0, 1000, (entity) -> tested.incrementAndGet() > 0);
+        for (int i = 0; i < 3; i++) iterator.next();
+
+        assertTrue(tested.get() < entities.size() / 10, "visited " + tested.get() + " entities");
+    }
+
+    @Test
+    void testNearestFilter() {
+        World world = world();
+        EntityGrid grid = new EntityGrid();
+        EngineEntity near = entity(world, 1, 64, 1);
+        EngineEntity far = entity(world, 40, 64, 40);
+        grid.insert(near);
+        grid.insert(far);
+
+        Iterator<EngineEntity> iterator = grid.nearest(world, 0, 64, 0, 100, (entity) -> entity != near);
+        assertSame(far, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        assertFalse(grid.nearest(world(), 0, 64, 0, 100, (entity) -> true).hasNext());
+        assertFalse(grid.nearest(world, 0, 64, 0, 10, (entity) -> entity != near).hasNext());
+    }
+
+    @Test
+    void testForEachAlong() {
+        World world = world();
+        EntityGrid grid = new EntityGrid();
+        List<EngineEntity> entities = populate(grid, world, new Random(19), 3000, 200);
+
+        Random random = new Random(23);
+        for (int i = 0; i < 200; i++) {
+            double fromX = random.nextDouble() * 400 - 200;
+            double fromZ = random.nextDouble() * 400 - 200;
+            double toX = i % 5 == 0 ? fromX : fromX + random.nextGaussian() * 100;
+            double toZ = i % 7 == 0 ? fromZ : fromZ + random.nextGaussian() * 100;
+            double margin = random.nextDouble() * 6;
+
+            Set<EngineEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            grid.forEachAlong(world, fromX, fromZ, toX, toZ, margin, (entity) -> assertTrue(visited.add(entity), "visited twice"));
+
+            Set<EngineEntity> box = Collections.newSetFromMap(new IdentityHashMap<>());
+            grid.forEachIn(world, Math.min(fromX, toX) - margin, Math.min(fromZ, toZ) - margin,
+                    Math.max(fromX, toX) + margin, Math.max(fromZ, toZ) + margin, box::add);
+            assertTrue(box.containsAll(visited));
+
+            for (EngineEntity entity : entities) {
+                Position3D position = entity.getPosition();
+                if (distance(position.getX(), position.getZ(), fromX, fromZ, toX, toZ) <= margin) {
+                    assertTrue(visited.contains(entity), entity + " missed");
+                }
+            }
+        }
+
+        //A diagonal ray visits far less than its bounding box
+        Set<EngineEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        grid.forEachAlong(world, -200, -200, 200, 200, 4, visited::add);
+        assertTrue(visited.size() < entities.size() / 4, "visited " + visited.size() + " entities");
+    }
+
+    private static List<EngineEntity> populate(final EntityGrid grid, final World world, final Random random,
+                                               final int amount, final double spread) {
+        List<EngineEntity> entities = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            EngineEntity entity = entity(world, random.nextDouble() * spread * 2 - spread,
+                    60 + random.nextDouble() * 8, random.nextDouble() * spread * 2 - spread);
+
+            grid.insert(entity);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+    private static void assertNearest(final EntityGrid grid, final World world, final List<EngineEntity> entities,
+                                      final double x, final double y, final double z, final double radius, final int limit) {
+        List<EngineEntity> expected = new ArrayList<>();
+        for (EngineEntity entity : entities) {
+            if (distanceSquared(entity, x, y, z) <= radius * radius) expected.add(entity);
+        }
+        expected.sort(Comparator.comparingDouble((entity) -> distanceSquared(entity, x, y, z)));
+
+        List<EngineEntity> found = new ArrayList<>();
+        Iterator<EngineEntity> iterator = grid.nearest(world, x, y, z, radius, (entity) -> true);
+        while (found.size() < limit && iterator.hasNext()) found.add(iterator.next());
+
+        assertEquals(expected.subList(0, Math.min(limit, expected.size())), found,
+                "nearest to " + x + ", " + z + " within " + radius);
+    }
+
+    private static double distanceSquared(final EngineEntity entity, final double x, final double y, final double z) {
+        Position3D position = entity.getPosition();
+        double dX = position.getX() - x;
+        double dY = position.getY() - y;
+        double dZ = position.getZ() - z;
+
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+    private static double distance(final double x, final double z, final double fromX, final double fromZ,
+                                   final double toX, final double toZ) {
+        double dX = toX - fromX;
+        double dZ = toZ - fromZ;
+        double lengthSquared = dX * dX + dZ * dZ;
+
+        double t = lengthSquared == 0 ? 0 : ((x - fromX) * dX + (z - fromZ) * dZ) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+
+        return Math.hypot(fromX + dX * t - x, fromZ + dZ * t - z);
+    }
+}
@@ -0,0 +1,120 @@
+package es.karmadev.gamelib.plugin.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    @Test
+    void testCaseFolding() {
+        NameIndex<Integer> index = new NameIndex<>();
+        index.insert(1, "Steve");
+
+        assertTrue(index.get("steve").contains(1));
+        assertTrue(index.get("STEVE").contains(1));
+        assertEquals("steve", index.getName(1));
+        assertEquals(Collections.singletonList(1), index.startingWith("StE", 10));
+
+        //Changing only the case keeps the value in place
+        index.insert(1, "STEVE");
+        assertEquals(1, index.get("Steve").size());
+        assertEquals("steve", index.getName(1));
+    }
+
+    @Test
+    void testRename() {
+        NameIndex<Integer> index = new NameIndex<>();
+        index.insert(1, "Alpha");
+        index.insert(2, "Alpha");
+        index.insert(1, "Beta");
+
+        assertEquals(Collections.singleton(2), new HashSet<>(index.get("alpha")));
+        assertEquals(Collections.singleton(1), new HashSet<>(index.get("beta")));
+        assertEquals("beta", index.getName(1));
+
+        //A null name removes the value
+        index.insert(1, null);
+        assertTrue(index.get("beta").isEmpty());
+        assertNull(index.getName(1));
+
+        index.remove(2);
+        assertTrue(index.get("alpha").isEmpty());
+        assertNull(index.getName(2));
+    }
+
+    @Test
+    void testEmptyBuckets() {
+        NameIndex<Integer> index = new NameIndex<>();
+        index.insert(1, "Alpha");
+        Collection<Integer> alpha = index.get("alpha");
+
+        /*
+        The emptied bucket is dropped, so the view
+        of it does not see the values indexed later
+        with the same name
+         */
+        index.insert(1, "Beta");
+        assertTrue(alpha.isEmpty());
+        assertTrue(index.startingWith("a", 10).isEmpty());
+
+        index.insert(2, "Alpha");
+        assertTrue(alpha.isEmpty());
+        assertEquals(Collections.singleton(2), new HashSet<>(index.get("alpha")));
+
+        index.remove(1);
+        index.remove(2);
+        assertTrue(index.startingWith("", 10).isEmpty());
+    }
+
+    @Test
+    void testPrefix() {
+        NameIndex<Integer> index = new NameIndex<>();
+        index.insert(1, "Anne");
+        index.insert(2, "ann");
+        index.insert(3, "Annabel");
+        index.insert(4, "Bob");
+        index.insert(5, "An");
+        index.insert(6, "Anna");
+        index.insert(7, "Ann" + Character.MAX_VALUE);
+
+        assertEquals(Arrays.asList(2, 6, 3, 1, 7), index.startingWith("Ann", 10));
+        assertEquals(Arrays.asList(5, 2, 6, 3, 1, 7), index.startingWith("AN", 10));
+
+        //A prefix which is a full name includes that name
+        assertEquals(Arrays.asList(6, 3), index.startingWith("anna", 10));
+        assertEquals(Collections.singletonList(4), index.startingWith("bob", 10));
+
+        assertTrue(index.startingWith("annabelle", 10).isEmpty());
+        assertTrue(index.startingWith("c", 10).isEmpty());
+        assertTrue(index.startingWith(null, 10).isEmpty());
+        assertEquals(7, index.startingWith("", 10).size());
+    }
+
+    @Test
+    void testLimit() {
+        NameIndex<Integer> index = new NameIndex<>();
+        index.insert(1, "Anne");
+        index.insert(2, "Ann");
+        index.insert(3, "Ann");
+        index.insert(4, "Annabel");
+
+        assertEquals(4, index.startingWith("ann", 4).size());
+        assertEquals(4, index.startingWith("ann", 10).size());
+        assertTrue(index.startingWith("ann", 0).isEmpty());
+        assertTrue(index.startingWith("ann", -1).isEmpty());
+
+        //The limit can stop in the middle of a bucket
+        assertEquals(1, index.startingWith("ann", 1).size());
+        assertTrue(Arrays.asList(2, 3).containsAll(index.startingWith("ann", 2)));
+        assertEquals(Arrays.asList(2, 3, 4), sorted(index.startingWith("ann", 3)));
+    }
+
+    private static List<Integer> sorted(final List<Integer> values) {
+        List<Integer> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,56 @@
+package es.karmadev.gamelib.plugin.index;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static es.karmadev.gamelib.plugin.TestEntities.entity;
+import static es.karmadev.gamelib.plugin.TestEntities.world;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldEntityIndexTest {
+
+    @Test
+    void testPartitions() {
+        World world = world();
+        World other = world();
+        WorldEntityIndex index = new WorldEntityIndex();
+
+        EngineEntity entity = entity(world, 0, 64, 0);
+        index.insert(entity);
+
+        Collection<EngineEntity> entities = index.getEntities(world);
+        assertTrue(entities.contains(entity));
+        assertTrue(index.getEntities(other).isEmpty());
+
+        assertTrue(index.move(entity.getUniqueId(), other));
+        assertFalse(index.move(entity.getUniqueId(), other));
+        assertTrue(entities.isEmpty());
+        assertTrue(index.getEntities(other).contains(entity));
+
+        index.remove(entity);
+        assertTrue(index.getEntities(other).isEmpty());
+        assertFalse(index.move(entity.getUniqueId(), world));
+    }
+
+    @Test
+    void testRemoveWorld() {
+        World world = world();
+        World other = world();
+        WorldEntityIndex index = new WorldEntityIndex();
+
+        EngineEntity entity = entity(world, 0, 64, 0);
+        index.insert(entity);
+        index.removeWorld(world);
+
+        //Querying a removed world does not create its partition back
+        assertTrue(index.getEntities(world).isEmpty());
+        assertTrue(index.getEntities(other).isEmpty());
+
+        //The entity is still indexed, and joins the partition of its next world
+        assertTrue(index.move(entity.getUniqueId(), world));
+        assertTrue(index.getEntities(world).contains(entity));
+    }
+}
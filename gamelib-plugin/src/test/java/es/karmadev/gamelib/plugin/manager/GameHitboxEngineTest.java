@@ -0,0 +1,123 @@
+package es.karmadev.gamelib.plugin.manager;
+
+import es.karmadev.gamelib.entity.EngineEntity;
+import es.karmadev.gamelib.entity.hitbox.HitPart;
+import es.karmadev.gamelib.entity.hitbox.HitResult;
+import es.karmadev.gamelib.entity.hitbox.Hitbox;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import static es.karmadev.gamelib.plugin.TestEntities.entity;
+import static es.karmadev.gamelib.plugin.TestEntities.world;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHitboxEngineTest {
+
+    private final static Hitbox HEAD = new Hitbox(0.5, 0.5, 0, 0, 0, 0);
+
+    private final World world = world();
+
+    @Test
+    void testBodyHit() {
+        EngineEntity entity = entity(world, 0, 64, 0);
+        HitResult result = new HitResult();
+
+        //Shot at the legs, from the west
+        shoot(entity, 0, 64.5, 10, result);
+        assertSame(entity, result.getEntity());
+        assertEquals(HitPart.BODY, result.getPart());
+        assertEquals(4.7, result.getDistance(), 1e-9);
+    }
+
+    @Test
+    void testHeadHit() {
+        EngineEntity entity = entity(world, 0, 64, 0);
+        HitResult result = new HitResult();
+
+        /*
+        The body is entered before the head, but
+        the shot still counts as a headshot, at the
+        body distance
+         */
+        shoot(entity, 0, 65.62, 10, result);
+        assertSame(entity, result.getEntity());
+        assertTrue(result.isHeadshot());
+        assertEquals(4.7, result.getDistance(), 1e-9);
+
+        //Above the head
+        result.reset();
+        shoot(entity, 0, 66, 10, result);
+        assertFalse(result.isHit());
+    }
+
+    @Test
+    void testNearest() {
+        EngineEntity near = entity(world, 0, 64, 0);
+        EngineEntity far = entity(world, 3, 64, 0);
+
+        HitResult result = new HitResult();
+        shoot(far, 3, 65.62, 10, result);
+        shoot(near, 0, 64.5, 10, result);
+        assertSame(near, result.getEntity());
+        assertEquals(HitPart.BODY, result.getPart());
+
+        //A farther headshot never replaces a nearer hit
+        result.reset();
+        shoot(near, 0, 65.62, 10, result);
+        shoot(far, 3, 65.62, 10, result);
+        assertSame(near, result.getEntity());
+        assertEquals(4.7, result.getDistance(), 1e-9);
+
+        result.reset();
+        shoot(near, 0, 64.5, 10, result);
+        shoot(far, 3, 65.62, 10, result);
+        assertSame(near, result.getEntity());
+        assertEquals(HitPart.BODY, result.getPart());
+
+        //Out of range
+        result.reset();
+        shoot(far, 3, 64.5, 7, result);
+        assertFalse(result.isHit());
+    }
+
+    @Test
+    void testSize() {
+        EngineEntity entity = entity(world, 0, 64, 0);
+        HitResult result = new HitResult();
+
+        //A small slime clamps the head to its body
+        GameHitboxEngine.hit(entity, HEAD, 0, 64, 0, 0, 0.325, 0.52, 0.52,
+                -5, 64.325, 0.24, 1, 0, 0, 10, result);
+        assertTrue(result.isHeadshot());
+
+        result.reset();
+        GameHitboxEngine.hit(entity, HEAD, 0, 64, 0, 0, 0.325, 0.52, 0.52,
+                -5, 64.325, 0.4, 1, 0, 0, 10, result);
+        assertFalse(result.isHit());
+
+        //A big slime grows its body, while the head keeps its size
+        result.reset();
+        GameHitboxEngine.hit(entity, HEAD, 0, 64, 0, 0, 2.6, 4.16, 4.16,
+                -5, 64.5, 1.5, 1, 0, 0, 10, result);
+        assertSame(entity, result.getEntity());
+        assertEquals(HitPart.BODY, result.getPart());
+        assertEquals(2.92, result.getDistance(), 1e-9);
+
+        //A swimming player has its head near the feet
+        result.reset();
+        GameHitboxEngine.hit(entity, HEAD, 0, 64, 0, 0, 0.4, 0.6, 0.6,
+                -5, 65.62, 0, 1, 0, 0, 10, result);
+        assertFalse(result.isHit());
+
+        GameHitboxEngine.hit(entity, HEAD, 0, 64, 0, 0, 0.4, 0.6, 0.6,
+                -5, 64.4, 0, 1, 0, 0, 10, result);
+        assertTrue(result.isHeadshot());
+    }
+
+    private static void shoot(final EngineEntity entity, final double x, final double y,
+                              final double maxDistance, final HitResult result) {
+        //A standing player, shot from the west
+        GameHitboxEngine.hit(entity, HEAD, x, 64, 0, 0, 1.62, 0.6, 1.8,
+                -5, y, 0, 1, 0, 0, maxDistance, result);
+    }
+}